@@ -3,8 +3,10 @@ package com.ktmt.demoapplication;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 @EnableJpaRepositories("com.ktmt.demoapplication.content.infrastructure.persistence.repository")
 public class DemoApplication {
 
@@ -0,0 +1,54 @@
+package com.ktmt.demoapplication.common.batch;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Outcome of a multi-get: the items found, in request order, and the requested ids that matched nothing
+ */
+public record BatchResult<T>(List<T> items, List<String> missingIds) {
+
+    public static final int MAX_IDS = 5000;
+
+    public BatchResult {
+        items = List.copyOf(items);
+        missingIds = List.copyOf(missingIds);
+    }
+
+    public static void requireValidIds(List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one id is required");
+        }
+        if (ids.size() > MAX_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_IDS + " ids can be requested at once");
+        }
+        if (ids.stream().anyMatch(id -> id == null || id.isBlank())) {
+            throw new IllegalArgumentException("Ids must not be null or blank");
+        }
+    }
+
+    /**
+     * Lay the found items out in the order of the requested keys, each key once;
+     * keys absent from found are reported as missing
+     */
+    public static <K, T> BatchResult<T> of(List<K> requested, Map<K, T> found) {
+        List<T> items = new ArrayList<>(found.size());
+        List<String> missing = new ArrayList<>();
+        for (K key : new LinkedHashSet<>(requested)) {
+            T item = found.get(key);
+            if (item == null) {
+                missing.add(key.toString());
+            } else {
+                items.add(item);
+            }
+        }
+        return new BatchResult<>(items, missing);
+    }
+
+    public <R> BatchResult<R> map(Function<T, R> mapper) {
+        return new BatchResult<>(items.stream().map(mapper).toList(), missingIds);
+    }
+}
@@ -0,0 +1,77 @@
+package com.ktmt.demoapplication.common.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Small thread-safe cache with a maximum size (least recently used entries are evicted first)
+ * and a time-to-live per entry, bounding how stale a value can get when another node changes it.
+ */
+public final class BoundedTtlCache<K, V> {
+
+    private final long ttlNanos;
+    private final Map<K, Entry<V>> entries;
+
+    public BoundedTtlCache(int maxSize, Duration ttl) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Max size must be positive");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Cached value, or the loader's result which is then cached; the loader runs outside the lock
+     */
+    public V get(K key, Function<K, V> loader) {
+        Optional<V> cached = getIfPresent(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        V loaded = loader.apply(key);
+        if (loaded != null) {
+            put(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Cache a value, restarting its time-to-live
+     */
+    public void put(K key, V value) {
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+        }
+    }
+
+    public Optional<V> getIfPresent(K key) {
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (System.nanoTime() - entry.expiresAt() >= 0) {
+                entries.remove(key);
+                return Optional.empty();
+            }
+            return Optional.of(entry.value());
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.ktmt.demoapplication.common.id;
+
+import java.util.UUID;
+
+/**
+ * Source of identifiers for new aggregates.
+ *
+ * Domain factories (ContentId.create, UserId.create, Category.create) draw from {@link Ids},
+ * which delegates to the generator installed there, UUIDv7 by default.
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    UUID next();
+
+    /**
+     * Random version 4 ids, the former behaviour
+     */
+    IdGenerator RANDOM = UUID::randomUUID;
+}
@@ -0,0 +1,25 @@
+package com.ktmt.demoapplication.common.id;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Process-wide id source used by the domain factories.
+ *
+ * Kept static so value objects stay free of framework wiring; {@link #use(IdGenerator)} swaps the
+ * generator, e.g. back to {@link IdGenerator#RANDOM} or to a deterministic one in tests.
+ */
+public final class Ids {
+
+    private static volatile IdGenerator generator = new UuidV7Generator();
+
+    private Ids() {}
+
+    public static UUID next() {
+        return generator.next();
+    }
+
+    public static void use(IdGenerator generator) {
+        Ids.generator = Objects.requireNonNull(generator, "generator");
+    }
+}
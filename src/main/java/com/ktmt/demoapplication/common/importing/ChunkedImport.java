@@ -0,0 +1,74 @@
+package com.ktmt.demoapplication.common.importing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Drives a bulk import chunk by chunk: rows are pulled from the reader until a chunk is full, and
+ * each chunk is validated and written in its own transaction by validateAndInsert. Only one chunk
+ * is held in memory, whatever the size of the body. Results are reported once their chunk has
+ * committed; a chunk that fails is rolled back as a whole, all its rows are reported rejected and
+ * the next chunks are still attempted.
+ *
+ * @param <R> row read from the import body
+ * @param <T> outcome reported for each row
+ */
+public abstract class ChunkedImport<R extends ImportRow, T> {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    protected ChunkedImport(PlatformTransactionManager transactionManager, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Import chunk size must be positive, got " + chunkSize);
+        }
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Validate and write one chunk, returning the outcome of each of its rows in order
+     */
+    protected abstract List<T> validateAndInsert(List<R> chunk);
+
+    /**
+     * Outcome of a row that was not imported
+     */
+    protected abstract T rejected(long row, String error);
+
+    public void execute(Iterator<R> rows, Consumer<T> report) {
+        List<R> chunk = new ArrayList<>(chunkSize);
+        while (rows.hasNext()) {
+            chunk.add(rows.next());
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, report);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, report);
+        }
+    }
+
+    private void importChunk(List<R> chunk, Consumer<T> report) {
+        List<T> results;
+        try {
+            results = transactionTemplate.execute(status -> validateAndInsert(chunk));
+        } catch (RuntimeException e) {
+            log.warn("Import chunk of rows {}-{} failed", chunk.getFirst().row(), chunk.getLast().row(), e);
+            results = chunk.stream()
+                    .map(row -> rejected(row.row(), "Chunk failed and was rolled back: " + e.getMessage()))
+                    .toList();
+        }
+        results.forEach(report);
+    }
+}
@@ -0,0 +1,12 @@
+package com.ktmt.demoapplication.common.importing;
+
+/**
+ * One record read from an import body
+ */
+public interface ImportRow {
+
+    /**
+     * 1-based position of the record in the body, used to report its outcome
+     */
+    long row();
+}
@@ -0,0 +1,42 @@
+package com.ktmt.demoapplication.common.importing;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Streams the report of an import as one JSON object per line, each line written as soon as
+ * the import reports it.
+ */
+public final class NdjsonImportReport {
+
+    private NdjsonImportReport() {}
+
+    /**
+     * Response running the import while the body is written; the import passes each report line to the given consumer
+     */
+    public static ResponseEntity<StreamingResponseBody> stream(JsonMapper jsonMapper, Consumer<Consumer<Object>> runImport) {
+        StreamingResponseBody report = out -> {
+            try {
+                runImport.accept(line -> {
+                    try {
+                        out.write(jsonMapper.writeValueAsBytes(line));
+                        out.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(report);
+    }
+}
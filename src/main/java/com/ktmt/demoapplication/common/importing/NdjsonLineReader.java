@@ -0,0 +1,58 @@
+package com.ktmt.demoapplication.common.importing;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads an import body of one JSON object per line. Lines are read one at a time as the import
+ * consumes them and blank lines are skipped; subclasses turn each line into the row of their import.
+ */
+public abstract class NdjsonLineReader<T> implements Iterator<T> {
+
+    private final BufferedReader reader;
+    private long row;
+    private String nextLine;
+
+    protected NdjsonLineReader(InputStream body) {
+        this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Map one non-blank line, row being its 1-based position among the non-blank lines
+     */
+    protected abstract T parse(long row, String line);
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (nextLine == null) {
+                String line = reader.readLine();
+                if (line == null) {
+                    return false;
+                }
+                if (!line.isBlank()) {
+                    nextLine = line;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String line = nextLine;
+        nextLine = null;
+        return parse(++row, line);
+    }
+}
@@ -0,0 +1,41 @@
+package com.ktmt.demoapplication.common.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset listing; nextCursor is null on the last page
+ */
+public record CursorPage<T>(List<T> items, PageCursor nextCursor) {
+
+    public static final int MAX_SIZE = 100;
+
+    public CursorPage {
+        items = List.copyOf(items);
+    }
+
+    /**
+     * Build a page from rows fetched with limit size + 1: the extra row only tells whether another page exists
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, PageCursor> cursorOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new CursorPage<>(items, cursorOf.apply(items.get(size - 1)));
+    }
+
+    public static void requireValidSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Size must be between 1 and " + MAX_SIZE);
+        }
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+
+    public String nextCursorToken() {
+        return nextCursor == null ? null : nextCursor.encode();
+    }
+}
@@ -0,0 +1,25 @@
+package com.ktmt.demoapplication.common.persistence;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Helper to tell which database constraint a failed write broke, so repositories translate only
+ * the violations they expect and let anything else surface unchanged.
+ */
+public final class ConstraintViolations {
+
+    private ConstraintViolations() {}
+
+    /**
+     * Whether the failure was raised by the constraint or unique index with the given name
+     */
+    public static boolean violates(DataIntegrityViolationException e, String constraintName) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return constraintName.equalsIgnoreCase(violation.getConstraintName());
+            }
+        }
+        return false;
+    }
+}
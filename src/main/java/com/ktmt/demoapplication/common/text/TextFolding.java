@@ -0,0 +1,28 @@
+package com.ktmt.demoapplication.common.text;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Accent and case folding for search: "Lập Trình Đa Luồng" becomes "lap trinh da luong".
+ *
+ * Text is decomposed (NFD), combining marks are dropped and the Vietnamese đ/Đ, which is a
+ * distinct letter rather than a d with a mark, is mapped to d. The same function must be applied
+ * to stored text and to queries so both sides compare in the folded space.
+ */
+public final class TextFolding {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private TextFolding() {}
+
+    public static String fold(String text) {
+        if (text == null) return null;
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("")
+                .replace('đ', 'd')
+                .replace('Đ', 'd')
+                .toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,29 @@
+package com.ktmt.demoapplication.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Helper to defer side effects on in-memory state until the surrounding transaction commits,
+ * so a rollback never leaves caches or indexes ahead of the database.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {}
+
+    /**
+     * Run the action after the current transaction commits, or immediately when no transaction is active
+     */
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
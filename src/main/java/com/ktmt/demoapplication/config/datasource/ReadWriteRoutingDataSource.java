@@ -0,0 +1,49 @@
+package com.ktmt.demoapplication.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the primary.
+ *
+ * The primary is used when the transaction is read-write, when the current request must read its
+ * own writes (ReplicaRoutingContext) or when no replica is within the lag limit. The decision is
+ * taken when a connection is requested, so this must sit behind a LazyConnectionDataSourceProxy:
+ * the transaction manager asks for the connection before it marks the transaction read-only.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReplicaPool replicas;
+
+    private ReadWriteRoutingDataSource(ReplicaPool replicas) {
+        this.replicas = replicas;
+    }
+
+    /**
+     * Routing over the primary and every replica of the pool, ready to use
+     */
+    public static ReadWriteRoutingDataSource of(DataSource primary, ReplicaPool replicas) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.names().forEach(name -> targets.put(name, replicas.dataSource(name)));
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(replicas);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReplicaRoutingContext.primaryRequired()) {
+            return PRIMARY;
+        }
+        return replicas.nextHealthy().orElse(PRIMARY);
+    }
+}
@@ -0,0 +1,96 @@
+package com.ktmt.demoapplication.config.datasource;
+
+import com.ktmt.demoapplication.common.cache.BoundedTtlCache;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Keeps a client on the primary for {@code datasource.replicas.read-your-writes-window} after it
+ * wrote, so it never reads a replica that has not replayed its own change yet.
+ *
+ * A client is identified by the {@code X-Client-Id} header, or by its address when the header is
+ * absent. Writes are tracked per instance: behind a load balancer, route a client to the same
+ * instance or keep the window above the replica lag limit.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String CLIENT_ID_HEADER = "X-Client-Id";
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+    private static final int MAX_TRACKED_CLIENTS = 100_000;
+
+    // client -> marker, present while the client is inside its read-your-writes window
+    private final BoundedTtlCache<String, Boolean> recentWriters;
+
+    public ReadYourWritesFilter(Duration window) {
+        this.recentWriters = new BoundedTtlCache<>(MAX_TRACKED_CLIENTS, window);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String client = clientOf(request);
+        boolean write = !SAFE_METHODS.contains(request.getMethod());
+        ReplicaRoutingContext.requirePrimary(write || recentWriters.getIfPresent(client).isPresent());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingContext.clear();
+            if (write) {
+                recordWrite(request, client);
+            }
+        }
+    }
+
+    /**
+     * The window starts when the write is over, however long it took. For an async response
+     * (streamed imports) that is when the async processing completes, not when this dispatch returns;
+     * onComplete also follows a timeout or an error.
+     */
+    private void recordWrite(HttpServletRequest request, String client) {
+        if (!request.isAsyncStarted()) {
+            recentWriters.put(client, Boolean.TRUE);
+            return;
+        }
+        AsyncContext async;
+        try {
+            async = request.getAsyncContext();
+        } catch (IllegalStateException e) {
+            // completed in between
+            recentWriters.put(client, Boolean.TRUE);
+            return;
+        }
+        async.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                recentWriters.put(client, Boolean.TRUE);
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+    }
+
+    private static String clientOf(HttpServletRequest request) {
+        String header = request.getHeader(CLIENT_ID_HEADER);
+        return header != null && !header.isBlank() ? header : request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,132 @@
+package com.ktmt.demoapplication.config.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connection pools to the read replicas, with the replica-lag guard.
+ *
+ * Each replica's replay lag is measured every {@code datasource.replicas.lag-check-interval};
+ * a replica that lags more than {@code max-lag}, or cannot be reached, is left out of the
+ * rotation until a later check finds it caught up. Replicas start out of the rotation, so reads
+ * stay on the primary until the first check has run.
+ */
+public class ReplicaPool implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaPool.class);
+
+    // 0 when the replica has replayed everything it received (an idle primary must not look like lag),
+    // 0 as well on a server that is not in recovery, e.g. a second database used as a local stand-in
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE coalesce(extract(epoch FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END""";
+    private static final int LAG_QUERY_TIMEOUT_SECONDS = 2;
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final double maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaPool(ReplicaRoutingProperties properties, MeterRegistry meterRegistry) {
+        this.maxLagSeconds = properties.maxLag().toMillis() / 1000.0;
+        for (ReplicaRoutingProperties.Node node : properties.nodes()) {
+            String name = "replica-" + replicas.size();
+            HikariConfig config = new HikariConfig();
+            config.setPoolName(name);
+            config.setJdbcUrl(node.url());
+            config.setUsername(node.username());
+            config.setPassword(node.password());
+            config.setMaximumPoolSize(properties.poolSize());
+            config.setReadOnly(true);
+            Replica replica = new Replica(name, new HikariDataSource(config));
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .tag("replica", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            replicas.add(replica);
+        }
+    }
+
+    public List<String> names() {
+        return replicas.stream().map(Replica::name).toList();
+    }
+
+    public DataSource dataSource(String name) {
+        return replicas.stream().filter(r -> r.name.equals(name)).findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown replica: " + name))
+                .dataSource;
+    }
+
+    /**
+     * Next replica in round-robin order among those within the lag limit, empty when none is
+     */
+    public Optional<String> nextHealthy() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return Optional.of(replica.name);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replicas.lag-check-interval:5s}")
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try {
+                Double lag = replica.jdbc.queryForObject(LAG_QUERY, Double.class);
+                replica.lagSeconds = lag == null ? 0 : lag;
+                healthy = replica.lagSeconds <= maxLagSeconds;
+            } catch (RuntimeException e) {
+                replica.lagSeconds = Double.NaN;
+                healthy = false;
+            }
+            if (healthy != replica.healthy) {
+                log.warn("Replica {} {} rotation (lag {}s, limit {}s)", replica.name,
+                        healthy ? "back in" : "taken out of", replica.lagSeconds, maxLagSeconds);
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(r -> r.dataSource.close());
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final HikariDataSource dataSource;
+        private final JdbcTemplate jdbc;
+        private volatile boolean healthy;
+        private volatile double lagSeconds = Double.NaN;
+
+        private Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.jdbc = new JdbcTemplate(dataSource);
+            this.jdbc.setQueryTimeout(LAG_QUERY_TIMEOUT_SECONDS);
+        }
+
+        private String name() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.ktmt.demoapplication.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Read-replica routing, enabled with {@code datasource.replicas.enabled=true}.
+ *
+ * Replaces the auto-configured DataSource with primary + replica pools behind a routing
+ * DataSource. Read-only transactions (GetContentUseCase, GetCategoryUseCase, GetUserUseCase and
+ * the readOnly repository methods) then run on a replica; everything else, including schema
+ * initialization, stays on the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replicas.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaPool replicaPool(ReplicaRoutingProperties properties, MeterRegistry meterRegistry) {
+        return new ReplicaPool(properties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPool replicaPool) {
+        return new LazyConnectionDataSourceProxy(ReadWriteRoutingDataSource.of(primaryDataSource, replicaPool));
+    }
+
+    /**
+     * Applied by Boot to the application task executor, which runs MVC async work such as the
+     * StreamingResponseBody of /stream and the imports: each task carries the hint of its request
+     */
+    @Bean
+    public TaskDecorator replicaRoutingTaskDecorator() {
+        return ReplicaRoutingContext::propagate;
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReplicaRoutingProperties properties) {
+        return new ReadYourWritesFilter(properties.readYourWritesWindow());
+    }
+}
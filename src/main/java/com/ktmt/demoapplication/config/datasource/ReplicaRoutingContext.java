@@ -0,0 +1,52 @@
+package com.ktmt.demoapplication.config.datasource;
+
+/**
+ * Per-request routing hint set by ReadYourWritesFilter.
+ *
+ * A plain thread local: pooled threads must not keep the hint of the request that created them.
+ * Work a request hands to other threads carries the hint explicitly through propagate(), as
+ * the MVC async executor does (ReplicaRoutingConfig).
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {}
+
+    public static void requirePrimary(boolean required) {
+        PRIMARY_REQUIRED.set(required);
+    }
+
+    public static boolean primaryRequired() {
+        return Boolean.TRUE.equals(PRIMARY_REQUIRED.get());
+    }
+
+    public static void clear() {
+        PRIMARY_REQUIRED.remove();
+    }
+
+    /**
+     * Wrap a task so it runs with the hint of the calling thread, and leaves the executing thread
+     * as it found it
+     */
+    public static Runnable propagate(Runnable task) {
+        Boolean captured = PRIMARY_REQUIRED.get();
+        return () -> {
+            Boolean previous = PRIMARY_REQUIRED.get();
+            set(captured);
+            try {
+                task.run();
+            } finally {
+                set(previous);
+            }
+        };
+    }
+
+    private static void set(Boolean value) {
+        if (value == null) {
+            PRIMARY_REQUIRED.remove();
+        } else {
+            PRIMARY_REQUIRED.set(value);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.ktmt.demoapplication.config.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replicas serving read-only transactions ({@code datasource.replicas.*} in application.yml).
+ * The primary stays configured by {@code spring.datasource}.
+ *
+ * @param maxLag              replicas further behind the primary than this are skipped until they catch up
+ * @param lagCheckInterval    how often each replica's lag is measured
+ * @param readYourWritesWindow how long a client that just wrote keeps reading from the primary
+ * @param poolSize            maximum connections per replica
+ */
+@ConfigurationProperties("datasource.replicas")
+public record ReplicaRoutingProperties(
+        boolean enabled,
+        @DefaultValue("2s") Duration maxLag,
+        @DefaultValue("5s") Duration lagCheckInterval,
+        @DefaultValue("5s") Duration readYourWritesWindow,
+        @DefaultValue("10") int poolSize,
+        @DefaultValue List<Node> nodes) {
+
+    public record Node(String url, String username, String password) {
+    }
+}
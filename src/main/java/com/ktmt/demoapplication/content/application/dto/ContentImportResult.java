@@ -0,0 +1,21 @@
+package com.ktmt.demoapplication.content.application.dto;
+
+/**
+ * Outcome of one record of a bulk import
+ */
+public record ContentImportResult(
+        long row,
+        Status status,
+        String contentId,
+        String error) {
+
+    public enum Status { CREATED, REJECTED }
+
+    public static ContentImportResult created(long row, String contentId) {
+        return new ContentImportResult(row, Status.CREATED, contentId, null);
+    }
+
+    public static ContentImportResult rejected(long row, String error) {
+        return new ContentImportResult(row, Status.REJECTED, null, error);
+    }
+}
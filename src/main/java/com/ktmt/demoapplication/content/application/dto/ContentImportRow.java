@@ -0,0 +1,20 @@
+package com.ktmt.demoapplication.content.application.dto;
+
+import com.ktmt.demoapplication.common.importing.ImportRow;
+
+/**
+ * One record of a bulk import file: the content to create, or why the record could not be read
+ *
+ * @param row   1-based position of the record in the file, header excluded
+ * @param error parse error, null when content is set
+ */
+public record ContentImportRow(long row, CreateContentRequest content, String error) implements ImportRow {
+
+    public static ContentImportRow of(long row, CreateContentRequest content) {
+        return new ContentImportRow(row, content, null);
+    }
+
+    public static ContentImportRow malformed(long row, String error) {
+        return new ContentImportRow(row, null, error);
+    }
+}
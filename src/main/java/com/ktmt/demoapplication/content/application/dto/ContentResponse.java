@@ -14,7 +14,8 @@ public record ContentResponse(
         String topic,
         String createdBy,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
+        LocalDateTime updatedAt,
+        long version
 ) {
     public static ContentResponse from(Content content){
         return new ContentResponse(
@@ -25,7 +26,8 @@ public record ContentResponse(
                 content.getTopic(),
                 content.getCreatedBy(),
                 content.getCreatedAt(),
-                content.getUpdatedAt()
+                content.getUpdatedAt(),
+                content.getVersion()
         );
     }
 }
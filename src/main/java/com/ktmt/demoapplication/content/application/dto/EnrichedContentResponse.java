@@ -0,0 +1,14 @@
+package com.ktmt.demoapplication.content.application.dto;
+
+/**
+ * A content with the display names of the category and user it references, for list views
+ *
+ * @param categoryName name of the topic's category, null when it cannot be resolved
+ * @param creatorName  full name of the creator, null when it cannot be resolved
+ */
+public record EnrichedContentResponse(
+        ContentResponse content,
+        String categoryName,
+        String creatorName
+) {
+}
@@ -0,0 +1,16 @@
+package com.ktmt.demoapplication.content.application.dto;
+
+import com.ktmt.demoapplication.content.domain.model.ContentFacets;
+
+import java.util.List;
+import java.util.Map;
+
+public record FacetedSearchResponse(
+        List<ContentResponse> items,
+        Map<String, Long> typeCounts,
+        Map<String, Long> topicCounts
+) {
+    public static FacetedSearchResponse of(List<ContentResponse> items, ContentFacets facets) {
+        return new FacetedSearchResponse(items, facets.byType(), facets.byTopic());
+    }
+}
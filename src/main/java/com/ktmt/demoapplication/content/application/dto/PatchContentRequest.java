@@ -0,0 +1,11 @@
+package com.ktmt.demoapplication.content.application.dto;
+
+/**
+ * Partial content update: null fields are left unchanged; version is the one the client read
+ */
+public record PatchContentRequest(
+        String title,
+        String description,
+        String topic,
+        long version) {
+}
@@ -0,0 +1,7 @@
+package com.ktmt.demoapplication.content.application.dto;
+
+public record TitleSuggestionResponse(
+        String contentId,
+        String title
+) {
+}
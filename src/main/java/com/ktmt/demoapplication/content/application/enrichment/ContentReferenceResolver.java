@@ -0,0 +1,89 @@
+package com.ktmt.demoapplication.content.application.enrichment;
+
+import com.ktmt.demoapplication.content.application.dto.ContentResponse;
+import com.ktmt.demoapplication.content.application.dto.EnrichedContentResponse;
+import com.ktmt.demoapplication.content.domain.model.Content;
+import com.ktmt.demoapplication.content.domain.repository.ICategoryRepository;
+import com.ktmt.demoapplication.user.domain.model.UserId;
+import com.ktmt.demoapplication.user.domain.repository.UserRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Resolves the category name and creator display name of the contents of a list view.
+ *
+ * Works like a DataLoader: the topics and creators of the whole list are collected first, each
+ * distinct id once, then every module is asked a single time for all of them: categories from the
+ * in-memory catalog, creators with one multi-get query. A list therefore costs at most one user
+ * query whatever its length, instead of one lookup per row.
+ *
+ * A topic or creator that is malformed, or whose category or user no longer exists, resolves to null.
+ */
+@Component
+public class ContentReferenceResolver {
+
+    private final ICategoryRepository iCategoryRepository;
+    private final UserRepository userRepository;
+
+    public ContentReferenceResolver(ICategoryRepository iCategoryRepository, UserRepository userRepository) {
+        this.iCategoryRepository = iCategoryRepository;
+        this.userRepository = userRepository;
+    }
+
+    public List<EnrichedContentResponse> enrich(List<Content> contents) {
+        Set<UUID> categoryIds = new HashSet<>();
+        Set<UUID> creatorIds = new HashSet<>();
+        for (Content content : contents) {
+            addIfUuid(categoryIds, content.getTopic());
+            addIfUuid(creatorIds, content.getCreatedBy());
+        }
+
+        Map<UUID, String> categoryNames = new HashMap<>();
+        if (!categoryIds.isEmpty()) {
+            iCategoryRepository.getCategories(categoryIds)
+                    .forEach(category -> categoryNames.put(category.getId(), category.getName()));
+        }
+        Map<UUID, String> creatorNames = new HashMap<>();
+        if (!creatorIds.isEmpty()) {
+            userRepository.findAllByIds(creatorIds.stream().map(UserId::from).toList())
+                    .forEach(user -> creatorNames.put(user.getId().getValue(), user.getFullName()));
+        }
+
+        return contents.stream()
+                .map(content -> new EnrichedContentResponse(
+                        ContentResponse.from(content),
+                        lookup(categoryNames, content.getTopic()),
+                        lookup(creatorNames, content.getCreatedBy())))
+                .toList();
+    }
+
+    private static void addIfUuid(Set<UUID> ids, String value) {
+        UUID id = parseOrNull(value);
+        if (id != null) {
+            ids.add(id);
+        }
+    }
+
+    private static String lookup(Map<UUID, String> names, String value) {
+        UUID id = parseOrNull(value);
+        return id == null ? null : names.get(id);
+    }
+
+    // topic and createdBy are free strings; rows written before their validation may hold anything
+    private static UUID parseOrNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value.trim());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.ktmt.demoapplication.content.application.search;
+
+import com.ktmt.demoapplication.common.text.TextFolding;
+import com.ktmt.demoapplication.common.transaction.AfterCommit;
+import com.ktmt.demoapplication.content.application.dto.TitleSuggestionResponse;
+import com.ktmt.demoapplication.content.domain.model.Content;
+import com.ktmt.demoapplication.content.domain.model.ContentId;
+import com.ktmt.demoapplication.content.domain.repository.IContentRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory prefix index over normalized content titles, used for title autocomplete.
+ *
+ * Keys are the folded title (see TextFolding) followed by the content id, kept in a sorted
+ * concurrent skip list; a prefix lookup is a range scan over the keys starting with the prefix,
+ * O(log n + k) and lock-free for readers. Each content costs a single entry, which in Java is
+ * far more compact than a node-per-character trie.
+ *
+ * Built at startup and updated incrementally by the create/update/delete content use cases,
+ * after their transaction commits. Writers are serialized so the two maps always change together.
+ */
+@Component
+public class ContentTitleSuggestionIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentTitleSuggestionIndex.class);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final IContentRepository iContentRepository;
+
+    // folded title + separator + id -> entry
+    private final NavigableMap<String, TitleSuggestionResponse> byKey = new ConcurrentSkipListMap<>();
+    // id -> current key, to replace or drop an entry when its title changes
+    private final Map<String, String> keyById = new ConcurrentHashMap<>();
+
+    public ContentTitleSuggestionIndex(IContentRepository iContentRepository) {
+        this.iContentRepository = iContentRepository;
+    }
+
+    @PostConstruct
+    public synchronized void rebuild() {
+        byKey.clear();
+        keyById.clear();
+        iContentRepository.streamItems(null, this::put);
+        log.info("Title suggestion index built with {} titles", byKey.size());
+    }
+
+    /**
+     * Titles starting with the given prefix, ignoring case and diacritics, in alphabetical order
+     */
+    public List<TitleSuggestionResponse> suggest(String prefix, int limit) {
+        String normalizedPrefix = normalize(prefix);
+        if (normalizedPrefix.isEmpty()) {
+            return List.of();
+        }
+        List<TitleSuggestionResponse> suggestions = new ArrayList<>(limit);
+        for (TitleSuggestionResponse suggestion : byKey.subMap(normalizedPrefix, normalizedPrefix + Character.MAX_VALUE).values()) {
+            suggestions.add(suggestion);
+            if (suggestions.size() == limit) {
+                break;
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * Index a created or updated content once the current transaction commits
+     */
+    public void index(Content content) {
+        AfterCommit.run(() -> put(content));
+    }
+
+    /**
+     * Re-index a content whose title was changed by a partial update, once the current transaction commits
+     */
+    public void indexTitle(ContentId id, String title) {
+        AfterCommit.run(() -> put(id.toString(), title));
+    }
+
+    /**
+     * Drop a deleted content once the current transaction commits
+     */
+    public void remove(ContentId id) {
+        AfterCommit.run(() -> drop(id.toString()));
+    }
+
+    private void put(Content content) {
+        put(content.getId().toString(), content.getTitle());
+    }
+
+    private synchronized void put(String id, String title) {
+        String key = normalize(title) + KEY_SEPARATOR + id;
+        String previous = keyById.put(id, key);
+        if (previous != null && !previous.equals(key)) {
+            byKey.remove(previous);
+        }
+        byKey.put(key, new TitleSuggestionResponse(id, title));
+    }
+
+    private synchronized void drop(String id) {
+        String key = keyById.remove(id);
+        if (key != null) {
+            byKey.remove(key);
+        }
+    }
+
+    private static String normalize(String text) {
+        if (text == null) return "";
+        return WHITESPACE.matcher(TextFolding.fold(text).trim()).replaceAll(" ");
+    }
+}
@@ -2,6 +2,7 @@ package com.ktmt.demoapplication.content.application.usecase;
 
 import com.ktmt.demoapplication.content.application.dto.ContentResponse;
 import com.ktmt.demoapplication.content.application.dto.CreateContentRequest;
+import com.ktmt.demoapplication.content.application.search.ContentTitleSuggestionIndex;
 import com.ktmt.demoapplication.content.domain.model.Category;
 import com.ktmt.demoapplication.content.domain.model.Content;
 import com.ktmt.demoapplication.content.domain.service.ContentDomainService;
@@ -16,10 +17,13 @@ import java.util.UUID;
 public class CreateContentUseCase {
     private final IContentRepository  iContentRepository;
     private final ContentDomainService contentDomainService;
+    private final ContentTitleSuggestionIndex suggestionIndex;
 
-    public CreateContentUseCase(IContentRepository iContentRepository, ContentDomainService contentDomainService){
+    public CreateContentUseCase(IContentRepository iContentRepository, ContentDomainService contentDomainService,
+                                ContentTitleSuggestionIndex suggestionIndex){
         this.iContentRepository = iContentRepository;
         this.contentDomainService = contentDomainService;
+        this.suggestionIndex = suggestionIndex;
     }
 
     public ContentResponse execute(CreateContentRequest req){
@@ -37,6 +41,7 @@ public class CreateContentUseCase {
         );
 
         Content savedContent = iContentRepository.addItem(content);
+        suggestionIndex.index(savedContent);
 
         return ContentResponse.from(savedContent);
     }
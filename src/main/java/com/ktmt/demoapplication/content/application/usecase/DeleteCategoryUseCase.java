@@ -1,25 +1,129 @@
 package com.ktmt.demoapplication.content.application.usecase;
 
+import com.ktmt.demoapplication.content.application.search.ContentTitleSuggestionIndex;
 import com.ktmt.demoapplication.content.domain.model.Category;
+import com.ktmt.demoapplication.content.domain.model.CategoryDeletionMode;
+import com.ktmt.demoapplication.content.domain.model.ContentId;
 import com.ktmt.demoapplication.content.domain.repository.ICategoryRepository;
+import com.ktmt.demoapplication.content.domain.repository.IContentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
+/**
+ * Deletes a category, after dealing with its content according to a CategoryDeletionMode.
+ *
+ * Reassigned or cascaded content is processed {@code content.category-delete.chunk-size} rows at a
+ * time, each chunk one UPDATE or DELETE in its own short transaction, so no lock is held for long and
+ * no row is loaded into memory. The category itself is deleted last, once nothing refers to it.
+ * A run that fails halfway leaves the chunks already done committed; running it again finishes the job.
+ */
 @Service
-@Transactional
 public class DeleteCategoryUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(DeleteCategoryUseCase.class);
+
     private final ICategoryRepository iCategoryRepository;
+    private final IContentRepository iContentRepository;
+    private final ContentTitleSuggestionIndex suggestionIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
 
-    public DeleteCategoryUseCase(ICategoryRepository iCategoryRepository){
+    public DeleteCategoryUseCase(ICategoryRepository iCategoryRepository, IContentRepository iContentRepository,
+                                 ContentTitleSuggestionIndex suggestionIndex, PlatformTransactionManager transactionManager,
+                                 @Value("${content.category-delete.chunk-size:1000}") int chunkSize){
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("content.category-delete.chunk-size must be positive");
+        }
         this.iCategoryRepository = iCategoryRepository;
+        this.iContentRepository = iContentRepository;
+        this.suggestionIndex = suggestionIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
     }
 
     public void execute(UUID categoryId){
+        execute(categoryId, CategoryDeletionMode.REJECT, null);
+    }
+
+    /**
+     * @param targetCategoryId where the content goes, only for REASSIGN
+     */
+    public void execute(UUID categoryId, CategoryDeletionMode mode, UUID targetCategoryId){
         Category existingCategory = iCategoryRepository.getCategory(categoryId)
                 .orElseThrow(() -> new IllegalArgumentException("Category not found with id: " + categoryId));
 
-        iCategoryRepository.deleteCategory(existingCategory.getId());
+        switch (mode) {
+            case REJECT -> {
+                // nothing to move: the check before the delete refuses a category still in use
+            }
+            case REASSIGN -> {
+                ensureValidTarget(categoryId, targetCategoryId);
+                AtomicInteger moved = new AtomicInteger();
+                try {
+                    drain(() -> iContentRepository.reassignCategory(categoryId, targetCategoryId, chunkSize), moved);
+                } catch (DataIntegrityViolationException e) {
+                    // the target category was deleted while the chunks were running
+                    throw new IllegalStateException("Target category " + targetCategoryId + " was deleted during the reassignment; "
+                            + moved.get() + " content items had already been moved, the rest is still in category " + categoryId);
+                }
+                log.info("Moved {} content items from category {} to {}", moved.get(), categoryId, targetCategoryId);
+            }
+            case CASCADE -> {
+                AtomicInteger deleted = new AtomicInteger();
+                drain(() -> {
+                    List<ContentId> ids = iContentRepository.deleteByCategory(categoryId, chunkSize);
+                    ids.forEach(suggestionIndex::remove);
+                    return ids;
+                }, deleted);
+                log.info("Deleted {} content items of category {}", deleted.get(), categoryId);
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // contents.topic is a foreign key to categories: an index probe instead of a failed DELETE
+                if (iContentRepository.existsByCategory(categoryId)) {
+                    throw new IllegalStateException("Category " + categoryId + " is still the topic of some content.");
+                }
+                iCategoryRepository.deleteCategory(existingCategory.getId());
+            });
+        } catch (DataIntegrityViolationException e) {
+            // content was added to the category between the probe and the commit
+            throw new IllegalStateException("Category " + categoryId + " is still the topic of some content.");
+        }
+    }
+
+    private void ensureValidTarget(UUID categoryId, UUID targetCategoryId) {
+        if (targetCategoryId == null) {
+            throw new IllegalArgumentException("A target category is required to reassign content");
+        }
+        if (targetCategoryId.equals(categoryId)) {
+            throw new IllegalArgumentException("The target category must differ from the deleted one");
+        }
+        if (iCategoryRepository.getCategory(targetCategoryId).isEmpty()) {
+            throw new IllegalArgumentException("Target category not found with id: " + targetCategoryId);
+        }
+    }
+
+    /**
+     * Run chunks, one transaction each, until a chunk comes back short; rows of committed chunks are
+     * counted in done as they go, so a failure can report how far it got
+     */
+    private void drain(Supplier<List<ContentId>> chunk, AtomicInteger done) {
+        int processed;
+        do {
+            processed = transactionTemplate.execute(status -> chunk.get().size());
+            done.addAndGet(processed);
+        } while (processed == chunkSize);
     }
 }
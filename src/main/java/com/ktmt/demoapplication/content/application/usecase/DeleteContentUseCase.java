@@ -1,6 +1,7 @@
 package com.ktmt.demoapplication.content.application.usecase;
 
 import com.ktmt.demoapplication.content.application.dto.ContentResponse;
+import com.ktmt.demoapplication.content.application.search.ContentTitleSuggestionIndex;
 import com.ktmt.demoapplication.content.domain.model.Content;
 import com.ktmt.demoapplication.content.domain.model.ContentId;
 import com.ktmt.demoapplication.content.domain.repository.IContentRepository;
@@ -12,9 +13,11 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class DeleteContentUseCase {
     private final IContentRepository iContentRepository;
+    private final ContentTitleSuggestionIndex suggestionIndex;
 
-    public DeleteContentUseCase(IContentRepository iContentRepository){
+    public DeleteContentUseCase(IContentRepository iContentRepository, ContentTitleSuggestionIndex suggestionIndex){
         this.iContentRepository = iContentRepository;
+        this.suggestionIndex = suggestionIndex;
     }
 
     public void execute(String contentId){
@@ -23,5 +26,6 @@ public class DeleteContentUseCase {
                 .orElseThrow(() -> new IllegalArgumentException("Content not found with id: " + id));
 
         iContentRepository.deleteItem(existingContent.getId());
+        suggestionIndex.remove(existingContent.getId());
     }
 }
@@ -1,12 +1,17 @@
 package com.ktmt.demoapplication.content.application.usecase;
 
+import com.ktmt.demoapplication.common.batch.BatchResult;
+import com.ktmt.demoapplication.common.pagination.CursorPage;
+import com.ktmt.demoapplication.common.pagination.PageCursor;
 import com.ktmt.demoapplication.content.application.dto.CategoryResponse;
 import com.ktmt.demoapplication.content.domain.model.Category;
 import com.ktmt.demoapplication.content.domain.repository.ICategoryRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -24,12 +29,21 @@ public class GetCategoryUseCase {
         return CategoryResponse.from(existingCategory);
     }
 
-    public List<CategoryResponse> getAllCategory(){
-        List<Category> allCategories = iCategoryRepository.getCategories();
+    /**
+     * Multi-get from the in-memory catalog: the found categories in request order, unknown ids listed as missing
+     */
+    public BatchResult<CategoryResponse> getCategoriesByIds(List<String> categoryIds){
+        BatchResult.requireValidIds(categoryIds);
+        List<UUID> ids = categoryIds.stream().map(UUID::fromString).toList();
+        Map<UUID, Category> found = new HashMap<>();
+        iCategoryRepository.getCategories(ids).forEach(category -> found.put(category.getId(), category));
+        return BatchResult.of(ids, found).map(CategoryResponse::from);
+    }
 
-        return allCategories.stream()
-                .map(CategoryResponse::from)
-                .toList();
+    public CursorPage<CategoryResponse> getCategoryPage(String cursor, int size){
+        CursorPage.requireValidSize(size);
+        return iCategoryRepository.getCategoryPage(PageCursor.decode(cursor), size)
+                .map(CategoryResponse::from);
     }
 
 }
@@ -1,22 +1,46 @@
 package com.ktmt.demoapplication.content.application.usecase;
 
+import com.ktmt.demoapplication.common.batch.BatchResult;
+import com.ktmt.demoapplication.common.pagination.CursorPage;
+import com.ktmt.demoapplication.common.pagination.PageCursor;
 import com.ktmt.demoapplication.content.application.dto.ContentResponse;
+import com.ktmt.demoapplication.content.application.dto.EnrichedContentResponse;
+import com.ktmt.demoapplication.content.application.dto.FacetedSearchResponse;
+import com.ktmt.demoapplication.content.application.enrichment.ContentReferenceResolver;
 import com.ktmt.demoapplication.content.domain.model.Content;
+import com.ktmt.demoapplication.content.domain.model.ContentFilter;
 import com.ktmt.demoapplication.content.domain.model.ContentId;
+import com.ktmt.demoapplication.content.domain.repository.ICategoryRepository;
 import com.ktmt.demoapplication.content.domain.repository.IContentRepository;
 import com.ktmt.demoapplication.content.domain.service.ContentDomainService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 @Service
 @Transactional(readOnly = true)
 public class GetContentUseCase {
+    public static final int MAX_SEARCH_LIMIT = 100;
+
     private final IContentRepository iContentRepository;
+    private final ICategoryRepository iCategoryRepository;
+    private final ContentReferenceResolver referenceResolver;
+    private final double defaultFuzzyThreshold;
 
-    public GetContentUseCase(IContentRepository iContentRepository){
+    public GetContentUseCase(IContentRepository iContentRepository,
+                             ICategoryRepository iCategoryRepository,
+                             ContentReferenceResolver referenceResolver,
+                             @Value("${content.search.fuzzy.threshold:0.3}") double defaultFuzzyThreshold){
         this.iContentRepository = iContentRepository;
+        this.iCategoryRepository = iCategoryRepository;
+        this.referenceResolver = referenceResolver;
+        this.defaultFuzzyThreshold = defaultFuzzyThreshold;
     }
 
     public ContentResponse getContentById(String contentId){
@@ -26,19 +50,104 @@ public class GetContentUseCase {
         return ContentResponse.from(existingContent);
     }
 
-    public List<ContentResponse> getAllContent(){
-        List<Content> allContents = iContentRepository.getAllItems();
+    /**
+     * Multi-get in one query: the found content in request order, unknown ids listed as missing
+     */
+    public BatchResult<ContentResponse> getContentByIds(List<String> contentIds){
+        BatchResult.requireValidIds(contentIds);
+        List<ContentId> ids = contentIds.stream().map(ContentId::from).toList();
+        Map<ContentId, Content> found = new HashMap<>();
+        iContentRepository.getItems(ids).forEach(content -> found.put(content.getId(), content));
+        return BatchResult.of(ids, found).map(ContentResponse::from);
+    }
+
+    public CursorPage<ContentResponse> getContentPage(String cursor, int size){
+        CursorPage.requireValidSize(size);
+        return iContentRepository.getPage(PageCursor.decode(cursor), size)
+                .map(ContentResponse::from);
+    }
+
+    /**
+     * Content of one category, newest first, keyset-paginated like getContentPage
+     */
+    public CursorPage<ContentResponse> getContentPageByCategory(UUID categoryId, String cursor, int size){
+        CursorPage.requireValidSize(size);
+        if (iCategoryRepository.getCategory(categoryId).isEmpty()) {
+            throw new IllegalArgumentException("Category not found with id: " + categoryId);
+        }
+        return iContentRepository.getPageByCategory(categoryId, PageCursor.decode(cursor), size)
+                .map(ContentResponse::from);
+    }
+
+    /**
+     * Same page as getContentPage, each item with its category name and creator name,
+     * resolved for the whole page at once (see ContentReferenceResolver)
+     */
+    public CursorPage<EnrichedContentResponse> getEnrichedContentPage(String cursor, int size){
+        CursorPage.requireValidSize(size);
+        CursorPage<Content> page = iContentRepository.getPage(PageCursor.decode(cursor), size);
+        return new CursorPage<>(referenceResolver.enrich(page.items()), page.nextCursor());
+    }
+
+    /**
+     * Full-catalog read for sync jobs: every content matching cond (all content when blank), handed over one by one
+     */
+    public void streamContent(String cond, Consumer<ContentResponse> consumer){
+        iContentRepository.streamItems(cond, content -> consumer.accept(ContentResponse.from(content)));
+    }
+
+    public List<ContentResponse> searchContent(String cond, int limit, int offset){
+        validatePage(limit, offset);
+        List<Content> searchedContent = iContentRepository.searchItems(cond, limit, offset);
 
-        return allContents.stream()
+        return searchedContent.stream()
+                .map(ContentResponse::from)
+                .toList();
+    }
+
+    public List<ContentResponse> filterContent(ContentFilter filter, int limit, int offset){
+        validatePage(limit, offset);
+        List<Content> filteredContent = iContentRepository.findItems(filter, limit, offset);
+
+        return filteredContent.stream()
                 .map(ContentResponse::from)
                 .toList();
     }
 
-    public List<ContentResponse> searchContent(String cond){
-        List<Content> searchedContent = iContentRepository.searchItems(cond);
+    /**
+     * One page of matches plus per-type and per-topic counts over all matches,
+     * so clients no longer need one search per type to build filters
+     */
+    public FacetedSearchResponse facetedSearchContent(String cond, int limit, int offset){
+        List<ContentResponse> items = searchContent(cond, limit, offset);
+        return FacetedSearchResponse.of(items, iContentRepository.countFacets(cond));
+    }
+
+    /**
+     * Typo-tolerant search: results ordered by trigram similarity, best first.
+     * A null threshold uses content.search.fuzzy.threshold.
+     */
+    public List<ContentResponse> fuzzySearchContent(String cond, Double threshold, int limit, int offset){
+        validatePage(limit, offset);
+        double effectiveThreshold = threshold != null ? threshold : defaultFuzzyThreshold;
+        if (!(effectiveThreshold > 0 && effectiveThreshold <= 1)) {
+            throw new IllegalArgumentException("Threshold must be greater than 0 and at most 1");
+        }
+        List<Content> searchedContent = (cond == null || cond.trim().isEmpty())
+                ? iContentRepository.searchItems(cond, limit, offset)
+                : iContentRepository.fuzzySearchItems(cond.trim(), effectiveThreshold, limit, offset);
 
         return searchedContent.stream()
                 .map(ContentResponse::from)
                 .toList();
     }
+
+    private void validatePage(int limit, int offset){
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset cannot be negative");
+        }
+    }
 }
@@ -0,0 +1,95 @@
+package com.ktmt.demoapplication.content.application.usecase;
+
+import com.ktmt.demoapplication.common.importing.ChunkedImport;
+import com.ktmt.demoapplication.content.application.dto.ContentImportResult;
+import com.ktmt.demoapplication.content.application.dto.ContentImportRow;
+import com.ktmt.demoapplication.content.application.dto.CreateContentRequest;
+import com.ktmt.demoapplication.content.application.search.ContentTitleSuggestionIndex;
+import com.ktmt.demoapplication.content.domain.model.Content;
+import com.ktmt.demoapplication.content.domain.model.ContentId;
+import com.ktmt.demoapplication.content.domain.repository.IContentRepository;
+import com.ktmt.demoapplication.content.domain.service.ContentDomainService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk creation of contents, e.g. for migrations.
+ *
+ * Records are handled chunk by chunk ({@code content.import.chunk-size}, see ChunkedImport), each
+ * chunk in its own transaction: the creation rules are checked with one lookup per rule for the
+ * whole chunk (ContentDomainService.findCreationViolations) and the valid contents are inserted in
+ * one JDBC batch. A record is reported once its chunk has committed, so every CREATED line of the
+ * report is durable.
+ */
+@Service
+public class ImportContentUseCase extends ChunkedImport<ContentImportRow, ContentImportResult> {
+
+    private final IContentRepository iContentRepository;
+    private final ContentDomainService contentDomainService;
+    private final ContentTitleSuggestionIndex suggestionIndex;
+
+    public ImportContentUseCase(IContentRepository iContentRepository, ContentDomainService contentDomainService,
+                                ContentTitleSuggestionIndex suggestionIndex, PlatformTransactionManager transactionManager,
+                                @Value("${content.import.chunk-size:1000}") int chunkSize) {
+        super(transactionManager, chunkSize);
+        this.iContentRepository = iContentRepository;
+        this.contentDomainService = contentDomainService;
+        this.suggestionIndex = suggestionIndex;
+    }
+
+    @Override
+    protected ContentImportResult rejected(long row, String error) {
+        return ContentImportResult.rejected(row, error);
+    }
+
+    @Override
+    protected List<ContentImportResult> validateAndInsert(List<ContentImportRow> chunk) {
+        ContentImportResult[] results = new ContentImportResult[chunk.size()];
+        List<Content> candidates = new ArrayList<>(chunk.size());
+        List<Integer> positions = new ArrayList<>(chunk.size());
+
+        for (int i = 0; i < chunk.size(); i++) {
+            ContentImportRow row = chunk.get(i);
+            if (row.error() != null) {
+                results[i] = ContentImportResult.rejected(row.row(), row.error());
+                continue;
+            }
+            CreateContentRequest req = row.content();
+            try {
+                candidates.add(Content.create(req.title(), req.description(), req.type(), req.topic(), req.createdBy()));
+                positions.add(i);
+            } catch (IllegalArgumentException e) {
+                results[i] = ContentImportResult.rejected(row.row(), e.getMessage());
+            }
+        }
+
+        Map<ContentId, String> violations = contentDomainService.findCreationViolations(candidates);
+        List<Content> valid = candidates.stream().filter(c -> !violations.containsKey(c.getId())).toList();
+        Set<ContentId> inserted = new HashSet<>();
+        for (Content content : iContentRepository.addItems(valid)) {
+            inserted.add(content.getId());
+            suggestionIndex.index(content);
+        }
+
+        for (int k = 0; k < candidates.size(); k++) {
+            Content content = candidates.get(k);
+            int i = positions.get(k);
+            long row = chunk.get(i).row();
+            if (inserted.contains(content.getId())) {
+                results[i] = ContentImportResult.created(row, content.getId().toString());
+            } else {
+                // rule violation, or lost the title to a concurrent write between the checks and the insert
+                results[i] = ContentImportResult.rejected(row, violations.getOrDefault(content.getId(),
+                        "Content with title '" + content.getTitle() + "' already exists."));
+            }
+        }
+        return List.of(results);
+    }
+}
@@ -0,0 +1,29 @@
+package com.ktmt.demoapplication.content.application.usecase;
+
+import com.ktmt.demoapplication.content.application.dto.TitleSuggestionResponse;
+import com.ktmt.demoapplication.content.application.search.ContentTitleSuggestionIndex;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Title autocomplete served from memory.
+ * Deliberately not @Transactional: answering must not borrow a database connection.
+ */
+@Service
+public class SuggestContentTitleUseCase {
+    public static final int MAX_SUGGESTIONS = 50;
+
+    private final ContentTitleSuggestionIndex suggestionIndex;
+
+    public SuggestContentTitleUseCase(ContentTitleSuggestionIndex suggestionIndex){
+        this.suggestionIndex = suggestionIndex;
+    }
+
+    public List<TitleSuggestionResponse> execute(String prefix, int limit){
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        return suggestionIndex.suggest(prefix, limit);
+    }
+}
@@ -1,7 +1,10 @@
 package com.ktmt.demoapplication.content.application.usecase;
 
+import com.ktmt.demoapplication.content.application.dto.PatchContentRequest;
 import com.ktmt.demoapplication.content.application.dto.UpdateContentRequest;
+import com.ktmt.demoapplication.content.application.search.ContentTitleSuggestionIndex;
 import com.ktmt.demoapplication.content.domain.model.ContentId;
+import com.ktmt.demoapplication.content.domain.model.ContentPatch;
 import com.ktmt.demoapplication.content.domain.repository.IContentRepository;
 import com.ktmt.demoapplication.content.domain.service.ContentDomainService;
 import com.ktmt.demoapplication.content.domain.model.Content;
@@ -15,10 +18,13 @@ import java.util.UUID;
 public class UpdateContentUseCase {
     private final IContentRepository iContentRepository;
     private final ContentDomainService contentDomainService;
+    private final ContentTitleSuggestionIndex suggestionIndex;
 
-    public UpdateContentUseCase(IContentRepository iContentRepository, ContentDomainService contentDomainService){
+    public UpdateContentUseCase(IContentRepository iContentRepository, ContentDomainService contentDomainService,
+                                ContentTitleSuggestionIndex suggestionIndex){
         this.contentDomainService = contentDomainService;
         this.iContentRepository = iContentRepository;
+        this.suggestionIndex = suggestionIndex;
     }
 
     public void execute(String contentId, UpdateContentRequest req){
@@ -37,5 +43,31 @@ public class UpdateContentUseCase {
         );
 
         iContentRepository.updateItem(existingContent);
+        suggestionIndex.index(existingContent);
+    }
+
+    /**
+     * Change only the given fields, without loading the content, if it is still at the version the client read.
+     * Returns the new version.
+     */
+    public long patch(String contentId, PatchContentRequest req) {
+        ContentId id = ContentId.from(contentId);
+        ContentPatch patch = new ContentPatch(req.title(), req.description(), req.topic());
+        if (patch.isEmpty()) {
+            throw new IllegalArgumentException("Nothing to update: set at least one of title, description, topic");
+        }
+
+        if (patch.topic() != null) {
+            contentDomainService.ensureCategoryTopicExists(UUID.fromString(patch.topic()));
+        }
+        if (patch.title() != null) {
+            contentDomainService.ensureTitleIsUniqueForUpdate(patch.title(), id);
+        }
+
+        long version = iContentRepository.patchItem(id, req.version(), patch);
+        if (patch.title() != null) {
+            suggestionIndex.indexTitle(id, patch.title());
+        }
+        return version;
     }
 }
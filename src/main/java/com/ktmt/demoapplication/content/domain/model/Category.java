@@ -1,5 +1,7 @@
 package com.ktmt.demoapplication.content.domain.model;
 
+import com.ktmt.demoapplication.common.id.Ids;
+
 import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.UUID;
@@ -31,7 +33,7 @@ public class Category {
      */
     public static Category create(String name, String description) {
         // Khởi tạo đối tượng bằng cách gọi constructor và truyền ID
-        Category category = new Category(UUID.randomUUID()); 
+        Category category = new Category(Ids.next()); 
         category.setName(name);
         category.setDescription(description);
         category.createdAt = LocalDateTime.now();
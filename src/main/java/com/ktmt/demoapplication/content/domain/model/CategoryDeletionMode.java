@@ -0,0 +1,13 @@
+package com.ktmt.demoapplication.content.domain.model;
+
+/**
+ * What happens to the content of a category being deleted.
+ */
+public enum CategoryDeletionMode {
+    /** Refuse to delete a category that is still the topic of some content */
+    REJECT,
+    /** Move its content to another category first */
+    REASSIGN,
+    /** Delete its content along with it */
+    CASCADE
+}
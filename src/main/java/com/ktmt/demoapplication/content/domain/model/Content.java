@@ -1,6 +1,7 @@
 package com.ktmt.demoapplication.content.domain.model;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
 import java.util.Objects;
 
 /**
@@ -20,6 +21,7 @@ public class Content {
     private String createdBy; // ID of the instructor/creator
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private long version; // optimistic locking, incremented by every update
     
     // Danh sách các loại nội dung hợp lệ
     private static final String[] VALID_TYPES = {"text", "video", "quiz", "interactive_lab"};
@@ -49,7 +51,7 @@ public class Content {
      */
     public static Content reconstitute(ContentId id, String title, String description, String type,
                                        String topic, String createdBy, LocalDateTime createdAt,
-                                       LocalDateTime updatedAt) {
+                                       LocalDateTime updatedAt, long version) {
         Content content = new Content();
         content.id = id;
         content.title = title;
@@ -59,6 +61,7 @@ public class Content {
         content.createdBy = createdBy;
         content.createdAt = createdAt;
         content.updatedAt = updatedAt;
+        content.version = version;
         return content;
     }
 
@@ -82,18 +85,11 @@ public class Content {
 
     // Setters with business validation
     private void setTitle(String title) {
-        if (title == null || title.trim().isEmpty()) {
-            throw new IllegalArgumentException("Title cannot be null or empty");
-        }
-        if (title.length() > 255) {
-            throw new IllegalArgumentException("Title cannot exceed 255 characters");
-        }
-        this.title = title.trim();
+        this.title = requireValidTitle(title);
     }
 
     private void setDescription(String description) {
-        // Description can be null/empty, but logic ensures it's clean if provided
-        this.description = (description != null) ? description.trim() : null;
+        this.description = cleanDescription(description);
     }
 
     private void setType(String type) {
@@ -115,13 +111,40 @@ public class Content {
     }
     
     private void setTopic(String topic) {
+        this.topic = requireValidTopic(topic);
+    }
+
+    /**
+     * Form under which titles are unique (lower(btrim(title)) in the database, see schema.sql)
+     */
+    public static String normalizeTitle(String title) {
+        return title.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Field rules, shared with ContentPatch
+    static String requireValidTitle(String title) {
+        if (title == null || title.trim().isEmpty()) {
+            throw new IllegalArgumentException("Title cannot be null or empty");
+        }
+        if (title.length() > 255) {
+            throw new IllegalArgumentException("Title cannot exceed 255 characters");
+        }
+        return title.trim();
+    }
+
+    static String cleanDescription(String description) {
+        // Description can be null/empty, but logic ensures it's clean if provided
+        return (description != null) ? description.trim() : null;
+    }
+
+    static String requireValidTopic(String topic) {
         if (topic == null || topic.trim().isEmpty()) {
             throw new IllegalArgumentException("Topic cannot be null or empty");
         }
         // Lưu ý: Việc kiểm tra Topic (Category) có tồn tại trong hệ thống hay không
         // thường được thực hiện ở tầng Application Service/Domain Service,
         // sử dụng CategoryRepository.
-        this.topic = topic.trim();
+        return topic.trim();
     }
 
     private void setCreatedBy(String createdBy) {
@@ -164,6 +187,10 @@ public class Content {
         return updatedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
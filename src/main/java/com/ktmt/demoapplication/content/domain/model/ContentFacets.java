@@ -0,0 +1,20 @@
+package com.ktmt.demoapplication.content.domain.model;
+
+import java.util.Map;
+
+/**
+ * Value Object holding facet counts of a content search: number of matches per type and per topic
+ *
+ * SOLID Principles Applied:
+ * - Single Responsibility Principle (SRP): Only carries aggregated counts
+ * - Immutability: Counts cannot be changed after creation
+ */
+public record ContentFacets(
+        Map<String, Long> byType,
+        Map<String, Long> byTopic
+) {
+    public ContentFacets {
+        byType = Map.copyOf(byType);
+        byTopic = Map.copyOf(byTopic);
+    }
+}
@@ -0,0 +1,45 @@
+package com.ktmt.demoapplication.content.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * Value Object describing a structured content query. Every criterion is optional;
+ * null means "no restriction". Date ranges are inclusive.
+ *
+ * SOLID Principles Applied:
+ * - Single Responsibility Principle (SRP): Only describes what to select and in which order
+ * - Immutability: Criteria cannot be changed after creation
+ */
+public record ContentFilter(
+        String type,
+        String topic,
+        String createdBy,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        LocalDateTime updatedFrom,
+        LocalDateTime updatedTo,
+        ContentSort sort
+) {
+    public ContentFilter {
+        type = blankToNull(type);
+        if (type != null) {
+            type = type.toLowerCase(Locale.ROOT);
+        }
+        topic = blankToNull(topic);
+        createdBy = blankToNull(createdBy);
+        if (createdFrom != null && createdTo != null && createdFrom.isAfter(createdTo)) {
+            throw new IllegalArgumentException("createdFrom must not be after createdTo");
+        }
+        if (updatedFrom != null && updatedTo != null && updatedFrom.isAfter(updatedTo)) {
+            throw new IllegalArgumentException("updatedFrom must not be after updatedTo");
+        }
+        if (sort == null) {
+            sort = ContentSort.NEWEST_FIRST;
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return (value == null || value.trim().isEmpty()) ? null : value.trim();
+    }
+}
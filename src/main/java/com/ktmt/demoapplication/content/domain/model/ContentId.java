@@ -1,5 +1,7 @@
 package com.ktmt.demoapplication.content.domain.model;
 
+import com.ktmt.demoapplication.common.id.Ids;
+
 import java.util.Objects;
 import java.util.UUID;
 
@@ -21,7 +23,7 @@ public class ContentId {
     }
 
     public static ContentId create() {
-        return new ContentId(UUID.randomUUID());
+        return new ContentId(Ids.next());
     }
 
     public static ContentId from(UUID value) {
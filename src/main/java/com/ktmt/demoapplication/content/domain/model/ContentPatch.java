@@ -0,0 +1,20 @@
+package com.ktmt.demoapplication.content.domain.model;
+
+/**
+ * Partial update of a Content: null fields are left unchanged.
+ *
+ * Values are validated and cleaned with the same rules as Content itself, so a patch can be
+ * written without loading the aggregate first.
+ */
+public record ContentPatch(String title, String description, String topic) {
+
+    public ContentPatch {
+        title = title == null ? null : Content.requireValidTitle(title);
+        description = description == null ? null : Content.cleanDescription(description);
+        topic = topic == null ? null : Content.requireValidTopic(topic);
+    }
+
+    public boolean isEmpty() {
+        return title == null && description == null && topic == null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.ktmt.demoapplication.content.domain.model;
+
+/**
+ * Sort orders supported by filtered content queries.
+ * Ties are always broken by id so pages are stable.
+ */
+public enum ContentSort {
+    NEWEST_FIRST,
+    OLDEST_FIRST,
+    RECENTLY_UPDATED,
+    TITLE
+}
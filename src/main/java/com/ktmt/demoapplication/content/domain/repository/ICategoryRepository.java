@@ -1,9 +1,13 @@
 package com.ktmt.demoapplication.content.domain.repository;
 
+import com.ktmt.demoapplication.common.pagination.CursorPage;
+import com.ktmt.demoapplication.common.pagination.PageCursor;
 import com.ktmt.demoapplication.content.domain.model.Category;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -27,6 +31,21 @@ public interface ICategoryRepository {
      */
     List<Category> getCategories();
 
+    /**
+     * Retrieve the Categories with the given IDs, in no particular order; unknown IDs are left out
+     */
+    List<Category> getCategories(Collection<UUID> ids);
+
+    /**
+     * The subset of the given ids that belong to an existing Category
+     */
+    Set<UUID> findExistingIds(Collection<UUID> ids);
+
+    /**
+     * Retrieve one page of Categories, newest first, starting after the cursor (null for the first page)
+     */
+    CursorPage<Category> getCategoryPage(PageCursor after, int size);
+
     /**
      * Add new Category (Port method: addCategory)
      * Returns the persisted Category object.
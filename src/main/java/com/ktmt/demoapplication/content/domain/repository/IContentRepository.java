@@ -1,10 +1,19 @@
 package com.ktmt.demoapplication.content.domain.repository;
 
+import com.ktmt.demoapplication.common.pagination.CursorPage;
+import com.ktmt.demoapplication.common.pagination.PageCursor;
 import com.ktmt.demoapplication.content.domain.model.Content;
+import com.ktmt.demoapplication.content.domain.model.ContentFacets;
+import com.ktmt.demoapplication.content.domain.model.ContentFilter;
 import com.ktmt.demoapplication.content.domain.model.ContentId;
+import com.ktmt.demoapplication.content.domain.model.ContentPatch;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Content Repository Interface (Port in Hexagonal Architecture)
@@ -22,16 +31,96 @@ public interface IContentRepository {
      */
     Optional<Content> getItem(ContentId id);
 
+    /**
+     * Retrieve the Content items with the given IDs in one query, in no particular order; unknown IDs are left out
+     */
+    List<Content> getItems(Collection<ContentId> ids);
+
     /**
      * Retrieve all Content items (Port method: getAllItems)
      */
     List<Content> getAllItems();
 
+    /**
+     * Retrieve one page of Content items, newest first, starting after the cursor (null for the first page)
+     */
+    CursorPage<Content> getPage(PageCursor after, int size);
+
+    /**
+     * Same as getPage, restricted to the Content items whose topic is the given Category
+     */
+    CursorPage<Content> getPageByCategory(UUID categoryId, PageCursor after, int size);
+
+    /**
+     * Whether any Content item has the given Category as its topic
+     */
+    boolean existsByCategory(UUID categoryId);
+
+    /**
+     * Move at most limit Content items from one Category to another in a single UPDATE, without loading them.
+     * Returns the IDs of the moved items; fewer than limit means none are left.
+     */
+    List<ContentId> reassignCategory(UUID fromCategoryId, UUID toCategoryId, int limit);
+
+    /**
+     * Delete at most limit Content items of a Category in a single DELETE, without loading them.
+     * Returns the IDs of the deleted items; fewer than limit means none are left.
+     */
+    List<ContentId> deleteByCategory(UUID categoryId, int limit);
+
+    /**
+     * Hand every Content item matching the criteria (all items when blank) to the consumer, one at a time,
+     * without holding the whole result in memory
+     */
+    void streamItems(String criteria, Consumer<Content> consumer);
+
     /**
      * Search Content items based on criteria (Port method: searchItems)
      */
     List<Content> searchItems(String criteria);
 
+    /**
+     * Search one page of Content items, most relevant first when the search engine ranks results
+     */
+    List<Content> searchItems(String criteria, int limit, int offset);
+
+    /**
+     * Typo-tolerant search: items whose similarity to the criteria reaches the threshold (0..1),
+     * most similar first
+     */
+    List<Content> fuzzySearchItems(String criteria, double threshold, int limit, int offset);
+
+    /**
+     * Count all items matching the criteria per type and per topic in a single pass
+     */
+    ContentFacets countFacets(String criteria);
+
+    /**
+     * Retrieve one page of Content items matching every criterion set in the filter, in the filter's sort order
+     */
+    List<Content> findItems(ContentFilter filter, int limit, int offset);
+
+    /**
+     * Whether a Content item already has this title, ignoring case and surrounding spaces
+     */
+    boolean existsByNormalizedTitle(String title);
+
+    /**
+     * Same as existsByNormalizedTitle, ignoring the given item
+     */
+    boolean existsByNormalizedTitleExcluding(String title, ContentId excludedId);
+
+    /**
+     * The subset of the given normalized titles (see Content.normalizeTitle) already used by a Content item
+     */
+    Set<String> findExistingNormalizedTitles(Collection<String> normalizedTitles);
+
+    /**
+     * Add a batch of new Content items, skipping those that collide with a stored item.
+     * Returns the items actually inserted.
+     */
+    List<Content> addItems(List<Content> contents);
+
     /**
      * Add new Content (Port method: addItem)
      * Returns the persisted Content object.
@@ -43,6 +132,12 @@ public interface IContentRepository {
      */
     void updateItem(Content content);
 
+    /**
+     * Apply a partial update in a single statement, only if the item is still at expectedVersion.
+     * Returns the new version; fails with an optimistic locking failure when the item was changed meanwhile.
+     */
+    long patchItem(ContentId id, long expectedVersion, ContentPatch patch);
+
     /**
      * Delete Content by ID (Port method: deleteItem)
      */
@@ -6,15 +6,19 @@ import com.ktmt.demoapplication.content.domain.repository.ICategoryRepository;
 import com.ktmt.demoapplication.content.domain.repository.IContentRepository;
 
 // Import từ User Module để thực hiện kiểm tra liên Module
-import com.ktmt.demoapplication.user.domain.model.User;
 import com.ktmt.demoapplication.user.domain.model.UserId;
+import com.ktmt.demoapplication.user.domain.model.UserStatus;
 import com.ktmt.demoapplication.user.domain.repository.UserRepository;
 
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Content Domain Service: Xử lý logic nghiệp vụ phức tạp liên quan đến
@@ -51,14 +55,8 @@ public class ContentDomainService {
             throw new IllegalArgumentException("Title cannot be empty.");
         }
         
-        // Sử dụng phương thức tìm kiếm và kiểm tra trùng khớp tiêu đề
-        List<Content> matchingContent = contentRepository.searchItems(title);
-        
-        boolean exactMatchFound = matchingContent.stream()
-            // So sánh không phân biệt chữ hoa, chữ thường
-            .anyMatch(content -> content.getTitle().equalsIgnoreCase(title));
-
-        if (exactMatchFound) {
+        // Một lần dò trên unique index của tiêu đề đã chuẩn hoá (không phân biệt chữ hoa, chữ thường)
+        if (contentRepository.existsByNormalizedTitle(title)) {
             throw new IllegalStateException("Content with title '" + title + "' already exists.");
         }
     }
@@ -71,14 +69,8 @@ public class ContentDomainService {
             throw new IllegalArgumentException("New title cannot be empty.");
         }
 
-        List<Content> matchingContent = contentRepository.searchItems(newTitle);
-        
-        boolean conflictFound = matchingContent.stream()
-            .anyMatch(content -> content.getTitle().equalsIgnoreCase(newTitle) && 
-                                 // Đảm bảo Content tìm thấy không phải là Content hiện tại
-                                 !content.getId().equals(currentContentId));
-
-        if (conflictFound) {
+        // Loại trừ chính Content hiện tại khỏi phép kiểm tra
+        if (contentRepository.existsByNormalizedTitleExcluding(newTitle, currentContentId)) {
             throw new IllegalStateException("Cannot update: Content with title '" + newTitle + "' already exists for another item.");
         }
     }
@@ -97,6 +89,57 @@ public class ContentDomainService {
         }
     }
 
+    /**
+     * Quy tắc Miền cho nhập hàng loạt: kiểm tra cùng ba quy tắc khi tạo (Category tồn tại, tiêu đề duy nhất,
+     * người tạo tồn tại và active) cho cả một nhóm Content, mỗi quy tắc chỉ một lần tra cứu cho cả nhóm.
+     * Trả về lý do bị từ chối của từng Content vi phạm; tiêu đề trùng nhau trong nhóm thì Content đứng trước được giữ.
+     */
+    public Map<ContentId, String> findCreationViolations(List<Content> contents) {
+        Map<ContentId, String> violations = new HashMap<>();
+
+        Map<ContentId, UUID> topics = new HashMap<>();
+        Map<ContentId, UserId> creators = new HashMap<>();
+        for (Content content : contents) {
+            try {
+                topics.put(content.getId(), UUID.fromString(content.getTopic()));
+            } catch (IllegalArgumentException e) {
+                violations.put(content.getId(), "Invalid format for Topic/Category ID: " + content.getTopic());
+                continue;
+            }
+            try {
+                creators.put(content.getId(), UserId.from(content.getCreatedBy()));
+            } catch (IllegalArgumentException e) {
+                violations.put(content.getId(), "Invalid format for Creator ID.");
+            }
+        }
+
+        Set<UUID> existingTopics = categoryRepository.findExistingIds(new HashSet<>(topics.values()));
+        Map<UserId, UserStatus> statuses = userRepository.findStatusesByIds(new HashSet<>(creators.values()));
+        Set<String> takenTitles = contentRepository.findExistingNormalizedTitles(
+                contents.stream().map(c -> Content.normalizeTitle(c.getTitle())).collect(Collectors.toSet()));
+
+        Set<String> seenTitles = new HashSet<>();
+        for (Content content : contents) {
+            ContentId id = content.getId();
+            if (violations.containsKey(id)) {
+                continue;
+            }
+            String normalizedTitle = Content.normalizeTitle(content.getTitle());
+            UUID topic = topics.get(id);
+            UserStatus status = statuses.get(creators.get(id));
+            if (!existingTopics.contains(topic)) {
+                violations.put(id, "The referenced Topic/Category with ID " + topic + " does not exist.");
+            } else if (takenTitles.contains(normalizedTitle) || !seenTitles.add(normalizedTitle)) {
+                violations.put(id, "Content with title '" + content.getTitle() + "' already exists.");
+            } else if (status == UserStatus.NOT_FOUND) {
+                violations.put(id, "The creator specified does not exist.");
+            } else if (status == UserStatus.INACTIVE) {
+                violations.put(id, "The creator specified is inactive.");
+            }
+        }
+        return violations;
+    }
+
     /**
      * Quy tắc Miền: Đảm bảo người tạo (Instructor) tồn tại và đang hoạt động (active).
      * Đây là logic liên Module (Content phụ thuộc vào User), cần UserRepository.
@@ -114,20 +157,16 @@ public class ContentDomainService {
             throw new IllegalArgumentException("Invalid format for Creator ID.", e);
         }
         
-        // Dùng UserRepository để kiểm tra User
-        Optional<User> userOptional = userRepository.findById(userId);
-
-        userOptional.ifPresentOrElse(
-            user -> {
-                // Kiểm tra trạng thái hoạt động (quy tắc nghiệp vụ)
-                if (!user.isActive()) { 
-                    throw new IllegalStateException("The creator specified is inactive.");
-                }
-            },
-            () -> {
-                // User không tồn tại
-                throw new IllegalStateException("The creator specified does not exist.");
-            }
-        );
+        // Chỉ đọc trạng thái (có cache), không nạp toàn bộ User aggregate
+        UserStatus status = userRepository.findStatusById(userId);
+
+        if (status == UserStatus.NOT_FOUND) {
+            // User không tồn tại
+            throw new IllegalStateException("The creator specified does not exist.");
+        }
+        // Kiểm tra trạng thái hoạt động (quy tắc nghiệp vụ)
+        if (status == UserStatus.INACTIVE) {
+            throw new IllegalStateException("The creator specified is inactive.");
+        }
     }
 }
\ No newline at end of file
@@ -1,12 +1,14 @@
 package com.ktmt.demoapplication.content.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
 @Table(name = "categories")
-public class CategoryJpaEntity {
+public class CategoryJpaEntity implements Persistable<UUID> {
 
     @Id
     @Column(name = "id", columnDefinition = "uuid")
@@ -24,6 +26,13 @@ public class CategoryJpaEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * Ids are assigned by the domain, so Spring Data cannot tell a new row from an existing one by its id
+     * and would merge (SELECT then INSERT). Add paths call markNew() to get a plain persist instead.
+     */
+    @Transient
+    private boolean newEntity;
+
     public CategoryJpaEntity() {}
 
     public CategoryJpaEntity(UUID id, String name, String description, LocalDateTime createdAt, LocalDateTime updatedAt) {
@@ -49,4 +58,13 @@ public class CategoryJpaEntity {
 
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    @Override
+    public boolean isNew() { return newEntity; }
+
+    public void markNew() { this.newEntity = true; }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() { this.newEntity = false; }
 }
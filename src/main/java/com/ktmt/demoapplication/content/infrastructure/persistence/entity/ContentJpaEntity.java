@@ -1,12 +1,26 @@
 package com.ktmt.demoapplication.content.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.domain.Persistable;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "contents")
-public class ContentJpaEntity {
+@Table(name = "contents", indexes = {
+        // filtered queries (ContentFilterRepositoryImpl): equality columns first, then the range/sort column
+        @Index(name = "idx_contents_type_topic_created_at", columnList = "type, topic, created_at"),
+        // content of a category (ContentJpaRepository.findKeysetPageByTopicAfter), also serves the topic foreign key
+        @Index(name = "idx_contents_topic_created_at_id", columnList = "topic, created_at, id"),
+        @Index(name = "idx_contents_created_by_created_at", columnList = "created_by, created_at"),
+        @Index(name = "idx_contents_updated_at", columnList = "updated_at"),
+        // keyset pagination (ContentJpaRepository.findKeysetPageAfter)
+        @Index(name = "idx_contents_created_at_id", columnList = "created_at, id")
+})
+@DynamicUpdate
+public class ContentJpaEntity implements Persistable<UUID> {
 
     @Id
     @Column(name = "id", columnDefinition = "uuid")
@@ -18,15 +32,27 @@ public class ContentJpaEntity {
     @Column(name = "description", columnDefinition = "text")
     private String description;
 
+    /**
+     * Accent- and case-folded copies of title/description used for diacritic-insensitive search.
+     * Computed once on write by ContentMapper.toEntity; trigram-indexed in schema.sql.
+     */
+    @Column(name = "title_folded", length = 255)
+    private String titleFolded;
+
+    @Column(name = "description_folded", columnDefinition = "text")
+    private String descriptionFolded;
+
+    // title_normalized (lower(btrim(title))) is a generated column with a unique index, see schema.sql; never written from Java
+
     @Column(name = "type", nullable = false, length = 50)
     private String type;
 
     /**
-     * NOTE: In your domain 'topic' is a String (not FK to Category),
-     * so we store it as text here.
+     * Id of the category, a foreign key to categories (see schema.sql). The domain keeps topic as a
+     * String; ContentMapper converts it.
      */
-    @Column(name = "topic", nullable = false, length = 255)
-    private String topic;
+    @Column(name = "topic", nullable = false, columnDefinition = "uuid")
+    private UUID topic;
 
     @Column(name = "created_by", nullable = false, length = 100)
     private String createdBy;
@@ -37,9 +63,25 @@ public class ContentJpaEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * Optimistic lock: every UPDATE checks and increments it (see also ContentPatchRepositoryImpl).
+     * The default lets ddl-auto add the column to a table that already has rows.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    /**
+     * Ids are assigned by the domain, so Spring Data cannot tell a new row from an existing one by its id
+     * and would merge (SELECT then INSERT). Add paths call markNew() to get a plain persist instead.
+     */
+    @Transient
+    private boolean newEntity;
+
     public ContentJpaEntity() {}
 
-    public ContentJpaEntity(UUID id, String title, String description, String type, String topic, String createdBy, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    public ContentJpaEntity(UUID id, String title, String description, String type, UUID topic, String createdBy, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.title = title;
         this.description = description;
@@ -60,11 +102,17 @@ public class ContentJpaEntity {
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
 
+    public String getTitleFolded() { return titleFolded; }
+    public void setTitleFolded(String titleFolded) { this.titleFolded = titleFolded; }
+
+    public String getDescriptionFolded() { return descriptionFolded; }
+    public void setDescriptionFolded(String descriptionFolded) { this.descriptionFolded = descriptionFolded; }
+
     public String getType() { return type; }
     public void setType(String type) { this.type = type; }
 
-    public String getTopic() { return topic; }
-    public void setTopic(String topic) { this.topic = topic; }
+    public UUID getTopic() { return topic; }
+    public void setTopic(UUID topic) { this.topic = topic; }
 
     public String getCreatedBy() { return createdBy; }
     public void setCreatedBy(String createdBy) { this.createdBy = createdBy; }
@@ -74,4 +122,16 @@ public class ContentJpaEntity {
 
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+
+    @Override
+    public boolean isNew() { return newEntity; }
+
+    public void markNew() { this.newEntity = true; }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() { this.newEntity = false; }
 }
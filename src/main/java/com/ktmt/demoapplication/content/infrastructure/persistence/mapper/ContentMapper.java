@@ -1,9 +1,12 @@
 package com.ktmt.demoapplication.content.infrastructure.persistence.mapper;
 
+import com.ktmt.demoapplication.common.text.TextFolding;
 import com.ktmt.demoapplication.content.domain.model.Content;
 import com.ktmt.demoapplication.content.domain.model.ContentId;
 import com.ktmt.demoapplication.content.infrastructure.persistence.entity.ContentJpaEntity;
 
+import java.util.UUID;
+
 public final class ContentMapper {
 
     private ContentMapper() {}
@@ -16,24 +19,47 @@ public final class ContentMapper {
                 e.getTitle(),
                 e.getDescription(),
                 e.getType(),
-                e.getTopic(),
+                e.getTopic().toString(),
                 e.getCreatedBy(),
                 e.getCreatedAt(),
-                e.getUpdatedAt()
+                e.getUpdatedAt(),
+                e.getVersion()
         );
     }
 
     public static ContentJpaEntity toEntity(Content c) {
         if (c == null) return null;
-        return new ContentJpaEntity(
+        ContentJpaEntity e = new ContentJpaEntity(
                 c.getId().getValue(), // ContentId -> UUID
                 c.getTitle(),
                 c.getDescription(),
                 c.getType(),
-                c.getTopic(),
+                toTopicId(c.getTopic()),
                 c.getCreatedBy(),
                 c.getCreatedAt(),
                 c.getUpdatedAt()
         );
+        e.setVersion(c.getVersion());
+        applyFoldedColumns(e);
+        return e;
+    }
+
+    /**
+     * The domain's topic string as the uuid stored in contents.topic
+     */
+    public static UUID toTopicId(String topic) {
+        try {
+            return UUID.fromString(topic.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid format for Topic/Category ID: " + topic);
+        }
+    }
+
+    /**
+     * Fill the search-only folded columns from title and description
+     */
+    public static void applyFoldedColumns(ContentJpaEntity e) {
+        e.setTitleFolded(TextFolding.fold(e.getTitle()));
+        e.setDescriptionFolded(TextFolding.fold(e.getDescription()));
     }
 }
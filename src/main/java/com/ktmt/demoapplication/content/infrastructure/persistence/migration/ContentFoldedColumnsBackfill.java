@@ -0,0 +1,49 @@
+package com.ktmt.demoapplication.content.infrastructure.persistence.migration;
+
+import com.ktmt.demoapplication.content.infrastructure.persistence.entity.ContentJpaEntity;
+import com.ktmt.demoapplication.content.infrastructure.persistence.mapper.ContentMapper;
+import com.ktmt.demoapplication.content.infrastructure.persistence.repository.ContentJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Fills title_folded/description_folded for rows written before those columns existed.
+ * Folding is done in Java (TextFolding) so old and new rows are folded identically.
+ * Runs in small batches, one transaction each, so no long lock is held on contents.
+ */
+@Component
+public class ContentFoldedColumnsBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentFoldedColumnsBackfill.class);
+
+    private final ContentJpaRepository jpa;
+    private final TransactionTemplate transactionTemplate;
+
+    public ContentFoldedColumnsBackfill(ContentJpaRepository jpa, TransactionTemplate transactionTemplate) {
+        this.jpa = jpa;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int total = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> {
+                List<ContentJpaEntity> rows = jpa.findTop500ByTitleFoldedIsNull();
+                rows.forEach(ContentMapper::applyFoldedColumns);
+                return rows.size();
+            });
+            total += batch;
+        } while (batch > 0);
+        if (total > 0) {
+            log.info("Backfilled folded search columns for {} contents", total);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.ktmt.demoapplication.content.infrastructure.persistence.migration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills search_vector for rows written before the contents_search_vector_trigger existed (see schema.sql).
+ * The no-op update of title fires the trigger, so old and new rows get the same vector.
+ * Runs in small batches, each statement its own transaction, so no long lock is held on contents;
+ * once every row has a vector the probe is a lookup in an empty partial index.
+ */
+@Component
+public class ContentSearchVectorBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentSearchVectorBackfill.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    // served by idx_contents_search_vector_missing
+    private static final String REFRESH_MISSING =
+            "UPDATE contents SET title = title WHERE id IN " +
+            "(SELECT c.id FROM contents c WHERE c.search_vector IS NULL LIMIT ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ContentSearchVectorBackfill(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int total = 0;
+        int batch;
+        do {
+            batch = jdbcTemplate.update(REFRESH_MISSING, BATCH_SIZE);
+            total += batch;
+        } while (batch > 0);
+        if (total > 0) {
+            log.info("Backfilled search vectors for {} contents", total);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.ktmt.demoapplication.content.infrastructure.persistence.repository;
+
+import com.ktmt.demoapplication.common.pagination.CursorPage;
+import com.ktmt.demoapplication.common.pagination.PageCursor;
+import com.ktmt.demoapplication.content.domain.model.Category;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of every category, served by CategoryRepositoryImpl without touching the database.
+ *
+ * Writers never modify a snapshot: they derive a new one (with / without) and swap it in atomically,
+ * so readers only ever see a complete catalog and never lock. Categories are handed out as fresh
+ * domain objects because Category is mutable.
+ */
+final class CategoryCatalog {
+
+    static final CategoryCatalog EMPTY = new CategoryCatalog(List.of());
+
+    // Same order as the keyset queries: created_at DESC, id DESC, ids compared as unsigned bytes like PostgreSQL does
+    private static final Comparator<Row> NEWEST_FIRST = Comparator
+            .comparing(Row::createdAt)
+            .thenComparing(Row::id, CategoryCatalog::compareUuids)
+            .reversed();
+
+    private final Map<UUID, Row> byId;
+    private final List<Row> newestFirst;
+
+    private CategoryCatalog(Collection<Row> rows) {
+        Map<UUID, Row> index = new HashMap<>();
+        rows.forEach(row -> index.put(row.id(), row));
+        List<Row> sorted = new ArrayList<>(index.values());
+        sorted.sort(NEWEST_FIRST);
+        this.byId = Collections.unmodifiableMap(index);
+        this.newestFirst = Collections.unmodifiableList(sorted);
+    }
+
+    static CategoryCatalog of(Collection<Category> categories) {
+        return new CategoryCatalog(categories.stream().map(Row::of).toList());
+    }
+
+    CategoryCatalog with(Category category) {
+        Map<UUID, Row> rows = new HashMap<>(byId);
+        rows.put(category.getId(), Row.of(category));
+        return new CategoryCatalog(rows.values());
+    }
+
+    CategoryCatalog without(UUID id) {
+        if (!byId.containsKey(id)) {
+            return this;
+        }
+        Map<UUID, Row> rows = new HashMap<>(byId);
+        rows.remove(id);
+        return new CategoryCatalog(rows.values());
+    }
+
+    Optional<Category> get(UUID id) {
+        return Optional.ofNullable(byId.get(id)).map(Row::toDomain);
+    }
+
+    List<Category> all() {
+        return newestFirst.stream().map(Row::toDomain).toList();
+    }
+
+    CursorPage<Category> page(PageCursor after, int size) {
+        int from = 0;
+        if (after != null) {
+            // first row strictly after the cursor position
+            Row probe = new Row(after.id(), null, null, after.createdAt(), null);
+            int found = Collections.binarySearch(newestFirst, probe, NEWEST_FIRST);
+            from = found >= 0 ? found + 1 : -found - 1;
+        }
+        List<Row> rows = newestFirst.subList(from, Math.min(newestFirst.size(), from + size + 1));
+        return CursorPage.of(rows, size, row -> new PageCursor(row.createdAt(), row.id()))
+                .map(Row::toDomain);
+    }
+
+    boolean contains(UUID id) {
+        return byId.containsKey(id);
+    }
+
+    int size() {
+        return byId.size();
+    }
+
+    private static int compareUuids(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private record Row(UUID id, String name, String description, LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        static Row of(Category category) {
+            return new Row(category.getId(), category.getName(), category.getDescription(),
+                    category.getCreatedAt(), category.getUpdatedAt());
+        }
+
+        Category toDomain() {
+            return Category.reconstitute(id, name, description, createdAt, updatedAt);
+        }
+    }
+}
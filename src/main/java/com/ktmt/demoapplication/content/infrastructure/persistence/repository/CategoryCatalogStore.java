@@ -0,0 +1,56 @@
+package com.ktmt.demoapplication.content.infrastructure.persistence.repository;
+
+import com.ktmt.demoapplication.content.infrastructure.persistence.mapper.CategoryMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Holds the current CategoryCatalog for CategoryRepositoryImpl, loads it at startup and reloads it
+ * periodically to pick up changes made by other instances.
+ *
+ * Kept out of the repository so the scheduled reload does not go through its transactional proxy.
+ */
+@Component
+public class CategoryCatalogStore {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryCatalogStore.class);
+
+    private final CategoryJpaRepository jpa;
+    private final AtomicReference<CategoryCatalog> catalog = new AtomicReference<>(CategoryCatalog.EMPTY);
+
+    CategoryCatalogStore(CategoryJpaRepository jpa) {
+        this.jpa = jpa;
+    }
+
+    @PostConstruct
+    void load() {
+        reload();
+        log.info("Category catalog loaded with {} categories", catalog.get().size());
+    }
+
+    /**
+     * Replace the catalog with the database content, unless a local write swapped it meanwhile
+     * (that write is newer than what was read; the next reload will catch up)
+     */
+    @Scheduled(fixedDelayString = "${content.category-catalog.refresh-interval:5m}",
+            initialDelayString = "${content.category-catalog.refresh-interval:5m}")
+    void reload() {
+        CategoryCatalog before = catalog.get();
+        CategoryCatalog loaded = CategoryCatalog.of(jpa.findAll().stream().map(CategoryMapper::toDomain).toList());
+        catalog.compareAndSet(before, loaded);
+    }
+
+    CategoryCatalog current() {
+        return catalog.get();
+    }
+
+    void update(UnaryOperator<CategoryCatalog> change) {
+        catalog.updateAndGet(change);
+    }
+}
@@ -1,5 +1,8 @@
 package com.ktmt.demoapplication.content.infrastructure.persistence.repository;
 
+import com.ktmt.demoapplication.common.pagination.CursorPage;
+import com.ktmt.demoapplication.common.pagination.PageCursor;
+import com.ktmt.demoapplication.common.transaction.AfterCommit;
 import com.ktmt.demoapplication.content.domain.model.Category;
 import com.ktmt.demoapplication.content.domain.repository.ICategoryRepository;
 import com.ktmt.demoapplication.content.infrastructure.persistence.mapper.CategoryMapper;
@@ -7,35 +10,99 @@ import com.ktmt.demoapplication.content.infrastructure.persistence.entity.Catego
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Categories are few and read on every content write, so all reads are served from an in-memory
+ * CategoryCatalog (see CategoryCatalogStore). Writes go to PostgreSQL first; the catalog is swapped
+ * once the transaction commits. An id missing from the catalog is looked up in the database before
+ * being reported absent, as it may have been created through another instance since the last reload.
+ *
+ * The catalog reads are deliberately not transactional: they must not take a pooled connection.
+ */
 @Repository
-@Transactional(readOnly = true)
 public class CategoryRepositoryImpl implements ICategoryRepository {
 
     private final CategoryJpaRepository jpa;
+    private final CategoryCatalogStore catalog;
 
-    public CategoryRepositoryImpl(CategoryJpaRepository jpa) {
+    public CategoryRepositoryImpl(CategoryJpaRepository jpa, CategoryCatalogStore catalog) {
         this.jpa = jpa;
+        this.catalog = catalog;
     }
 
     @Override
     public Optional<Category> getCategory(UUID id) {
-        return jpa.findById(id).map(CategoryMapper::toDomain);
+        Optional<Category> cached = catalog.current().get(id);
+        return cached.isPresent() ? cached : probe(List.of(id)).stream().findFirst();
     }
 
     @Override
     public List<Category> getCategories() {
-        return jpa.findAll().stream().map(CategoryMapper::toDomain).collect(Collectors.toList());
+        return catalog.current().all();
+    }
+
+    @Override
+    public List<Category> getCategories(Collection<UUID> ids) {
+        CategoryCatalog snapshot = catalog.current();
+        Map<UUID, Category> probed = probe(ids.stream().filter(id -> !snapshot.contains(id)).toList()).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+        return ids.stream()
+                .map(id -> snapshot.get(id).or(() -> Optional.ofNullable(probed.get(id))))
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    @Override
+    public Set<UUID> findExistingIds(Collection<UUID> ids) {
+        CategoryCatalog snapshot = catalog.current();
+        Set<UUID> existing = ids.stream().filter(snapshot::contains).collect(Collectors.toSet());
+        probe(ids.stream().filter(id -> !existing.contains(id)).toList())
+                .forEach(category -> existing.add(category.getId()));
+        return existing;
+    }
+
+    @Override
+    public CursorPage<Category> getCategoryPage(PageCursor after, int size) {
+        return catalog.current().page(after, size);
+    }
+
+    /**
+     * One primary-key lookup for ids the catalog does not know; the categories found are merged
+     * into the catalog so the next reads of them are served from memory again
+     */
+    private List<Category> probe(Collection<UUID> missing) {
+        if (missing.isEmpty()) {
+            return List.of();
+        }
+        List<Category> found = jpa.findAllById(missing).stream().map(CategoryMapper::toDomain).toList();
+        if (!found.isEmpty()) {
+            catalog.update(current -> {
+                CategoryCatalog merged = current;
+                for (Category category : found) {
+                    merged = merged.with(category);
+                }
+                return merged;
+            });
+        }
+        return found;
     }
 
     @Override
     @Transactional
     public Category addCategory(Category category) {
-        CategoryJpaEntity saved = jpa.save(CategoryMapper.toEntity(category));
+        CategoryJpaEntity entity = CategoryMapper.toEntity(category);
+        entity.markNew();
+        CategoryJpaEntity saved = jpa.save(entity);
+        Category persisted = CategoryMapper.toDomain(saved);
+        AfterCommit.run(() -> catalog.update(current -> current.with(persisted)));
         return CategoryMapper.toDomain(saved);
     }
 
@@ -43,12 +110,15 @@ public class CategoryRepositoryImpl implements ICategoryRepository {
     @Transactional
     public void updateCategory(Category category) {
         // Save will act as upsert. Ensure the id exists per your application logic if needed.
-        jpa.save(CategoryMapper.toEntity(category));
+        CategoryJpaEntity saved = jpa.save(CategoryMapper.toEntity(category));
+        Category persisted = CategoryMapper.toDomain(saved);
+        AfterCommit.run(() -> catalog.update(current -> current.with(persisted)));
     }
 
     @Override
     @Transactional
     public void deleteCategory(UUID id) {
         jpa.deleteById(id);
+        AfterCommit.run(() -> catalog.update(current -> current.without(id)));
     }
 }
@@ -0,0 +1,15 @@
+package com.ktmt.demoapplication.content.infrastructure.persistence.repository;
+
+import com.ktmt.demoapplication.content.domain.model.ContentFilter;
+import com.ktmt.demoapplication.content.infrastructure.persistence.entity.ContentJpaEntity;
+
+import java.util.List;
+
+/**
+ * Spring Data fragment of ContentJpaRepository for queries built at runtime
+ */
+public interface ContentFilterRepository {
+
+    // one page of rows matching every non-null criterion of the filter
+    List<ContentJpaEntity> findFiltered(ContentFilter filter, int limit, int offset);
+}
@@ -0,0 +1,74 @@
+package com.ktmt.demoapplication.content.infrastructure.persistence.repository;
+
+import com.ktmt.demoapplication.content.domain.model.ContentFilter;
+import com.ktmt.demoapplication.content.infrastructure.persistence.entity.ContentJpaEntity;
+import com.ktmt.demoapplication.content.infrastructure.persistence.mapper.ContentMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the filtered query with only the predicates that are set, so each combination
+ * can use the matching composite index on the contents table (see ContentJpaEntity).
+ */
+public class ContentFilterRepositoryImpl implements ContentFilterRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ContentJpaEntity> findFiltered(ContentFilter filter, int limit, int offset) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ContentJpaEntity> query = cb.createQuery(ContentJpaEntity.class);
+        Root<ContentJpaEntity> root = query.from(ContentJpaEntity.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.type() != null) {
+            predicates.add(cb.equal(root.get("type"), filter.type()));
+        }
+        if (filter.topic() != null) {
+            predicates.add(cb.equal(root.get("topic"), ContentMapper.toTopicId(filter.topic())));
+        }
+        if (filter.createdBy() != null) {
+            predicates.add(cb.equal(root.get("createdBy"), filter.createdBy()));
+        }
+        if (filter.createdFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), filter.createdFrom()));
+        }
+        if (filter.createdTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), filter.createdTo()));
+        }
+        if (filter.updatedFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("updatedAt"), filter.updatedFrom()));
+        }
+        if (filter.updatedTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.get("updatedAt"), filter.updatedTo()));
+        }
+
+        query.select(root)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(orderOf(filter, cb, root));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private static List<Order> orderOf(ContentFilter filter, CriteriaBuilder cb, Root<ContentJpaEntity> root) {
+        Order primary = switch (filter.sort()) {
+            case NEWEST_FIRST -> cb.desc(root.get("createdAt"));
+            case OLDEST_FIRST -> cb.asc(root.get("createdAt"));
+            case RECENTLY_UPDATED -> cb.desc(root.get("updatedAt"));
+            case TITLE -> cb.asc(root.get("title"));
+        };
+        return List.of(primary, cb.asc(root.get("id")));
+    }
+}
@@ -1,13 +1,136 @@
 package com.ktmt.demoapplication.content.infrastructure.persistence.repository;
 
 import com.ktmt.demoapplication.content.infrastructure.persistence.entity.ContentJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface ContentJpaRepository extends JpaRepository<ContentJpaEntity, UUID> {
+public interface ContentJpaRepository extends JpaRepository<ContentJpaEntity, UUID>, ContentFilterRepository, ContentPatchRepository {
 
-    // simple search by title or description
-    List<ContentJpaEntity> findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(String title, String description);
+    String STREAM_FETCH_SIZE = "500";
+
+    // multi-get: one array parameter, so the statement is the same whatever the number of ids
+    @Query(value = "SELECT * FROM contents c WHERE c.id = ANY(:ids)", nativeQuery = true)
+    List<ContentJpaEntity> findAllByIdIn(@Param("ids") UUID[] ids);
+
+    // simple search by title or description, arguments must already be folded (see TextFolding)
+    List<ContentJpaEntity> findByTitleFoldedContainingOrDescriptionFoldedContaining(String titleFolded, String descriptionFolded);
+
+    // rows written before the folded columns existed
+    List<ContentJpaEntity> findTop500ByTitleFoldedIsNull();
+
+    // newest first, one page
+    @Query(value = "SELECT * FROM contents c ORDER BY c.created_at DESC, c.id LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<ContentJpaEntity> findPage(@Param("limit") int limit, @Param("offset") int offset);
+
+    // keyset pagination on (created_at, id), newest first, served by idx_contents_created_at_id
+    @Query(value = "SELECT * FROM contents c ORDER BY c.created_at DESC, c.id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<ContentJpaEntity> findFirstKeysetPage(@Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM contents c WHERE (c.created_at, c.id) < (:createdAt, :id) " +
+            "ORDER BY c.created_at DESC, c.id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<ContentJpaEntity> findKeysetPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, @Param("limit") int limit);
+
+    // same keyset within one category, served by idx_contents_topic_created_at_id
+    @Query(value = "SELECT * FROM contents c WHERE c.topic = :topic ORDER BY c.created_at DESC, c.id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<ContentJpaEntity> findFirstKeysetPageByTopic(@Param("topic") UUID topic, @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM contents c WHERE c.topic = :topic AND (c.created_at, c.id) < (:createdAt, :id) " +
+            "ORDER BY c.created_at DESC, c.id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<ContentJpaEntity> findKeysetPageByTopicAfter(@Param("topic") UUID topic, @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") UUID id, @Param("limit") int limit);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM contents c WHERE c.topic = :topic)", nativeQuery = true)
+    boolean existsByTopic(@Param("topic") UUID topic);
+
+    // full reads through a server-side cursor, STREAM_FETCH_SIZE rows per round trip; callers must detach rows
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = "SELECT * FROM contents c ORDER BY c.created_at DESC, c.id", nativeQuery = true)
+    Stream<ContentJpaEntity> streamAll();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = "SELECT * FROM contents c WHERE c.title_folded LIKE :pattern OR c.description_folded LIKE :pattern " +
+            "ORDER BY c.created_at DESC, c.id",
+            nativeQuery = true)
+    Stream<ContentJpaEntity> streamSearch(@Param("pattern") String pattern);
+
+    // title uniqueness probes on the generated title_normalized column (see schema.sql)
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM contents c WHERE c.title_normalized = lower(btrim(:title)))",
+            nativeQuery = true)
+    boolean existsByNormalizedTitle(@Param("title") String title);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM contents c WHERE c.title_normalized = lower(btrim(:title)) AND c.id <> :excludedId)",
+            nativeQuery = true)
+    boolean existsByNormalizedTitleAndIdNot(@Param("title") String title, @Param("excludedId") UUID excludedId);
+
+    @Query(value = "SELECT c.title_normalized FROM contents c WHERE c.title_normalized IN (:normalizedTitles)",
+            nativeQuery = true)
+    List<String> findExistingNormalizedTitles(@Param("normalizedTitles") Collection<String> normalizedTitles);
+
+    // paged LIKE search on the folded columns, pattern must already be folded, escaped and wrapped in '%'
+    @Query(value = "SELECT * FROM contents c WHERE c.title_folded LIKE :pattern OR c.description_folded LIKE :pattern " +
+            "ORDER BY c.created_at DESC, c.id LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<ContentJpaEntity> searchPage(@Param("pattern") String pattern, @Param("limit") int limit, @Param("offset") int offset);
+
+    // ranked full-text search on the search_vector column (see schema.sql)
+    @Query(value = "SELECT c.* FROM contents c, to_tsquery('simple', :query) q WHERE c.search_vector @@ q " +
+            "ORDER BY ts_rank_cd(c.search_vector, q) DESC, c.created_at DESC, c.id LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<ContentJpaEntity> fullTextSearchPage(@Param("query") String query, @Param("limit") int limit, @Param("offset") int offset);
+
+    // threshold used by the <% operator below, local to the current transaction
+    @Query(value = "SELECT set_config('pg_trgm.word_similarity_threshold', :threshold, true)", nativeQuery = true)
+    String setWordSimilarityThreshold(@Param("threshold") String threshold);
+
+    // facet counts per type and per topic in one pass; rows carry either a type or a topic
+    @Query(value = "SELECT c.type AS type, c.topic AS topic, count(*) AS total FROM contents c " +
+            "GROUP BY GROUPING SETS ((c.type), (c.topic))",
+            nativeQuery = true)
+    List<FacetCountRow> countAllFacets();
+
+    @Query(value = "SELECT c.type AS type, c.topic AS topic, count(*) AS total FROM contents c " +
+            "WHERE c.title_folded LIKE :pattern OR c.description_folded LIKE :pattern " +
+            "GROUP BY GROUPING SETS ((c.type), (c.topic))",
+            nativeQuery = true)
+    List<FacetCountRow> countFacetsByPattern(@Param("pattern") String pattern);
+
+    @Query(value = "SELECT c.type AS type, c.topic AS topic, count(*) AS total FROM contents c " +
+            "WHERE c.search_vector @@ to_tsquery('simple', :query) " +
+            "GROUP BY GROUPING SETS ((c.type), (c.topic))",
+            nativeQuery = true)
+    List<FacetCountRow> countFullTextFacets(@Param("query") String query);
+
+    // trigram fuzzy search on the folded columns, served by the gin_trgm_ops indexes (see schema.sql)
+    @Query(value = "SELECT * FROM contents c WHERE :query <% c.title_folded OR :query <% c.description_folded " +
+            "ORDER BY GREATEST(word_similarity(:query, c.title_folded), word_similarity(:query, coalesce(c.description_folded, ''))) DESC, " +
+            "c.created_at DESC, c.id LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<ContentJpaEntity> fuzzySearchPage(@Param("query") String query, @Param("limit") int limit, @Param("offset") int offset);
+
+    interface FacetCountRow {
+        String getType();
+        UUID getTopic();
+        long getTotal();
+    }
 }
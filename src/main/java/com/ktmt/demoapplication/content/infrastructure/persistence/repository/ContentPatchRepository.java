@@ -0,0 +1,15 @@
+package com.ktmt.demoapplication.content.infrastructure.persistence.repository;
+
+import com.ktmt.demoapplication.content.domain.model.ContentPatch;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Spring Data fragment of ContentJpaRepository for partial updates
+ */
+public interface ContentPatchRepository {
+
+    // one UPDATE of the patched columns, applied only if the row still has expectedVersion; returns the updated row count
+    int patch(UUID id, long expectedVersion, ContentPatch patch, LocalDateTime updatedAt);
+}
@@ -0,0 +1,53 @@
+package com.ktmt.demoapplication.content.infrastructure.persistence.repository;
+
+import com.ktmt.demoapplication.common.text.TextFolding;
+import com.ktmt.demoapplication.content.domain.model.ContentPatch;
+import com.ktmt.demoapplication.content.infrastructure.persistence.entity.ContentJpaEntity;
+import com.ktmt.demoapplication.content.infrastructure.persistence.mapper.ContentMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Builds {@code UPDATE contents SET <patched columns>, updated_at, version = version + 1
+ * WHERE id = ? AND version = ?} with only the columns the patch sets.
+ *
+ * The folded search columns follow title and description here; search_vector and
+ * title_normalized are derived by the database (see schema.sql).
+ */
+public class ContentPatchRepositoryImpl implements ContentPatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int patch(UUID id, long expectedVersion, ContentPatch patch, LocalDateTime updatedAt) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<ContentJpaEntity> update = cb.createCriteriaUpdate(ContentJpaEntity.class);
+        Root<ContentJpaEntity> root = update.from(ContentJpaEntity.class);
+
+        if (patch.title() != null) {
+            update.set(root.<String>get("title"), patch.title());
+            update.set(root.<String>get("titleFolded"), TextFolding.fold(patch.title()));
+        }
+        if (patch.description() != null) {
+            update.set(root.<String>get("description"), patch.description());
+            update.set(root.<String>get("descriptionFolded"), TextFolding.fold(patch.description()));
+        }
+        if (patch.topic() != null) {
+            update.set(root.<UUID>get("topic"), ContentMapper.toTopicId(patch.topic()));
+        }
+        update.set(root.<LocalDateTime>get("updatedAt"), updatedAt);
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        update.where(
+                cb.equal(root.get("id"), id),
+                cb.equal(root.get("version"), expectedVersion));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
@@ -1,26 +1,73 @@
 package com.ktmt.demoapplication.content.infrastructure.persistence.repository;
 
+import com.ktmt.demoapplication.common.pagination.CursorPage;
+import com.ktmt.demoapplication.common.pagination.PageCursor;
+import com.ktmt.demoapplication.common.persistence.ConstraintViolations;
+import com.ktmt.demoapplication.common.text.TextFolding;
+import com.ktmt.demoapplication.common.transaction.AfterCommit;
 import com.ktmt.demoapplication.content.domain.model.Content;
+import com.ktmt.demoapplication.content.domain.model.ContentFacets;
+import com.ktmt.demoapplication.content.domain.model.ContentFilter;
 import com.ktmt.demoapplication.content.domain.model.ContentId;
+import com.ktmt.demoapplication.content.domain.model.ContentPatch;
 import com.ktmt.demoapplication.content.domain.repository.IContentRepository;
 import com.ktmt.demoapplication.content.infrastructure.persistence.mapper.ContentMapper;
 import com.ktmt.demoapplication.content.infrastructure.persistence.entity.ContentJpaEntity;
+import com.ktmt.demoapplication.content.infrastructure.search.ContentSearchStrategy;
+import com.ktmt.demoapplication.content.infrastructure.search.DatabaseContentSearchStrategy;
+import com.ktmt.demoapplication.content.infrastructure.search.FacetRows;
+import jakarta.persistence.EntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import java.util.stream.Collectors;
 
 @Repository
 @Transactional(readOnly = true)
 public class ContentRepositoryImpl implements IContentRepository {
 
+    private static final String TITLE_UNIQUE_INDEX = "uk_contents_title_normalized";
+    // the category was deleted after ContentDomainService.ensureCategoryTopicExists, or the local catalog was stale
+    private static final String TOPIC_FOREIGN_KEY = "fk_contents_topic_category";
+
+    // rows colliding on the id or on uk_contents_title_normalized are skipped and reported with an update count of 0
+    private static final String INSERT_SKIPPING_CONFLICTS = "INSERT INTO contents " +
+            "(id, title, description, title_folded, description_folded, type, topic, created_by, created_at, updated_at, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT DO NOTHING";
+
+    // one chunk of a category's content, picked through idx_contents_topic_created_at_id; only the ids come back.
+    // The outer topic test is re-evaluated on rows changed concurrently (READ COMMITTED), so a row a PATCH moved to
+    // another category after the subselect picked it is left alone.
+    private static final String REASSIGN_TOPIC_CHUNK = "UPDATE contents SET topic = ?, updated_at = ?, version = version + 1 " +
+            "WHERE topic = ? AND id IN (SELECT c.id FROM contents c WHERE c.topic = ? LIMIT ?) RETURNING id";
+
+    private static final String DELETE_TOPIC_CHUNK = "DELETE FROM contents " +
+            "WHERE topic = ? AND id IN (SELECT c.id FROM contents c WHERE c.topic = ? LIMIT ?) RETURNING id";
+
     private final ContentJpaRepository jpa;
+    private final ContentSearchStrategy searchStrategy;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
-    public ContentRepositoryImpl(ContentJpaRepository jpa) {
+    public ContentRepositoryImpl(ContentJpaRepository jpa, ContentSearchStrategy searchStrategy, EntityManager entityManager,
+                                 JdbcTemplate jdbcTemplate) {
         this.jpa = jpa;
+        this.searchStrategy = searchStrategy;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -29,24 +76,184 @@ public class ContentRepositoryImpl implements IContentRepository {
         return jpa.findById(id.getValue()).map(ContentMapper::toDomain);
     }
 
+    @Override
+    public List<Content> getItems(Collection<ContentId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        UUID[] values = ids.stream().map(ContentId::getValue).toArray(UUID[]::new);
+        return jpa.findAllByIdIn(values).stream().map(ContentMapper::toDomain).toList();
+    }
+
     @Override
     public List<Content> getAllItems() {
         return jpa.findAll().stream().map(ContentMapper::toDomain).collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPage<Content> getPage(PageCursor after, int size) {
+        List<ContentJpaEntity> rows = after == null
+                ? jpa.findFirstKeysetPage(size + 1)
+                : jpa.findKeysetPageAfter(after.createdAt(), after.id(), size + 1);
+        return CursorPage.of(rows, size, e -> new PageCursor(e.getCreatedAt(), e.getId()))
+                .map(ContentMapper::toDomain);
+    }
+
+    @Override
+    public CursorPage<Content> getPageByCategory(UUID categoryId, PageCursor after, int size) {
+        List<ContentJpaEntity> rows = after == null
+                ? jpa.findFirstKeysetPageByTopic(categoryId, size + 1)
+                : jpa.findKeysetPageByTopicAfter(categoryId, after.createdAt(), after.id(), size + 1);
+        return CursorPage.of(rows, size, e -> new PageCursor(e.getCreatedAt(), e.getId()))
+                .map(ContentMapper::toDomain);
+    }
+
+    @Override
+    public boolean existsByCategory(UUID categoryId) {
+        return jpa.existsByTopic(categoryId);
+    }
+
+    @Override
+    @Transactional
+    public List<ContentId> reassignCategory(UUID fromCategoryId, UUID toCategoryId, int limit) {
+        List<UUID> moved = jdbcTemplate.queryForList(REASSIGN_TOPIC_CHUNK, UUID.class,
+                toCategoryId, LocalDateTime.now(), fromCategoryId, fromCategoryId, limit);
+        AfterCommit.run(() -> searchStrategy.onTopicChanged(moved, toCategoryId));
+        return moved.stream().map(ContentId::from).toList();
+    }
+
+    @Override
+    @Transactional
+    public List<ContentId> deleteByCategory(UUID categoryId, int limit) {
+        List<UUID> deleted = jdbcTemplate.queryForList(DELETE_TOPIC_CHUNK, UUID.class, categoryId, categoryId, limit);
+        AfterCommit.run(() -> deleted.forEach(searchStrategy::onDeleted));
+        return deleted.stream().map(ContentId::from).toList();
+    }
+
+    /**
+     * Unranked LIKE on the folded columns whatever the configured search engine: full dumps need every match, not the best ones.
+     * Each row is detached right after mapping so the persistence context, and the heap, stay flat.
+     */
+    @Override
+    public void streamItems(String criteria, Consumer<Content> consumer) {
+        try (Stream<ContentJpaEntity> rows = (criteria == null || criteria.trim().isEmpty())
+                ? jpa.streamAll()
+                : jpa.streamSearch(DatabaseContentSearchStrategy.containsPattern(TextFolding.fold(criteria.trim())))) {
+            rows.forEach(e -> {
+                Content content = ContentMapper.toDomain(e);
+                entityManager.detach(e);
+                consumer.accept(content);
+            });
+        }
+    }
+
     @Override
     public List<Content> searchItems(String criteria) {
         if (criteria == null || criteria.trim().isEmpty()) {
             return getAllItems();
         }
-        List<ContentJpaEntity> found = jpa.findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(criteria, criteria);
+        List<ContentJpaEntity> found = searchStrategy.search(criteria);
+        return found.stream().map(ContentMapper::toDomain).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Content> searchItems(String criteria, int limit, int offset) {
+        List<ContentJpaEntity> found = (criteria == null || criteria.trim().isEmpty())
+                ? jpa.findPage(limit, offset)
+                : searchStrategy.search(criteria.trim(), limit, offset);
+        return found.stream().map(ContentMapper::toDomain).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Content> fuzzySearchItems(String criteria, double threshold, int limit, int offset) {
+        // Both statements run on the same connection inside this transaction
+        jpa.setWordSimilarityThreshold(Double.toString(threshold));
+        List<ContentJpaEntity> found = jpa.fuzzySearchPage(TextFolding.fold(criteria), limit, offset);
         return found.stream().map(ContentMapper::toDomain).collect(Collectors.toList());
     }
 
+    @Override
+    public ContentFacets countFacets(String criteria) {
+        if (criteria == null || criteria.trim().isEmpty()) {
+            return FacetRows.toFacets(jpa.countAllFacets());
+        }
+        return searchStrategy.facets(criteria.trim());
+    }
+
+    @Override
+    public List<Content> findItems(ContentFilter filter, int limit, int offset) {
+        return jpa.findFiltered(filter, limit, offset).stream().map(ContentMapper::toDomain).collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean existsByNormalizedTitle(String title) {
+        return jpa.existsByNormalizedTitle(title.trim());
+    }
+
+    @Override
+    public boolean existsByNormalizedTitleExcluding(String title, ContentId excludedId) {
+        return jpa.existsByNormalizedTitleAndIdNot(title.trim(), excludedId.getValue());
+    }
+
+    @Override
+    public Set<String> findExistingNormalizedTitles(Collection<String> normalizedTitles) {
+        if (normalizedTitles.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jpa.findExistingNormalizedTitles(normalizedTitles));
+    }
+
+    /**
+     * One JDBC batch for the whole list, on the connection of the current JPA transaction,
+     * bypassing the persistence context so nothing is kept per row
+     */
+    @Override
+    @Transactional
+    public List<Content> addItems(List<Content> contents) {
+        if (contents.isEmpty()) {
+            return List.of();
+        }
+        List<ContentJpaEntity> entities = contents.stream().map(ContentMapper::toEntity).toList();
+        List<Object[]> rows = new ArrayList<>(entities.size());
+        for (ContentJpaEntity e : entities) {
+            rows.add(new Object[]{
+                    e.getId(), e.getTitle(), e.getDescription(), e.getTitleFolded(), e.getDescriptionFolded(),
+                    e.getType(), e.getTopic(), e.getCreatedBy(), e.getCreatedAt(), e.getUpdatedAt(), e.getVersion()
+            });
+        }
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_SKIPPING_CONFLICTS, rows);
+
+        List<Content> inserted = new ArrayList<>(contents.size());
+        List<ContentJpaEntity> insertedEntities = new ArrayList<>(contents.size());
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                inserted.add(contents.get(i));
+                insertedEntities.add(entities.get(i));
+            }
+        }
+        AfterCommit.run(() -> insertedEntities.forEach(searchStrategy::onSaved));
+        return inserted;
+    }
+
     @Override
     @Transactional
     public Content addItem(Content content) {
-        ContentJpaEntity saved = jpa.save(ContentMapper.toEntity(content));
+        ContentJpaEntity entity = ContentMapper.toEntity(content);
+        entity.markNew();
+        ContentJpaEntity saved;
+        try {
+            saved = jpa.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            // a concurrent create won the race past ContentDomainService.ensureTitleIsUnique
+            if (ConstraintViolations.violates(e, TITLE_UNIQUE_INDEX)) {
+                throw new IllegalStateException("Content with title '" + content.getTitle() + "' already exists.");
+            }
+            if (ConstraintViolations.violates(e, TOPIC_FOREIGN_KEY)) {
+                throw missingTopic(content.getTopic());
+            }
+            throw e;
+        }
+        AfterCommit.run(() -> searchStrategy.onSaved(saved));
         return ContentMapper.toDomain(saved);
     }
 
@@ -54,7 +261,46 @@ public class ContentRepositoryImpl implements IContentRepository {
     @Transactional
     public void updateItem(Content content) {
         // Use save as upsert. Ensure business validations done before calling.
-        jpa.save(ContentMapper.toEntity(content));
+        ContentJpaEntity saved;
+        try {
+            saved = jpa.saveAndFlush(ContentMapper.toEntity(content));
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.violates(e, TITLE_UNIQUE_INDEX)) {
+                throw new IllegalStateException("Cannot update: Content with title '" + content.getTitle() + "' already exists for another item.");
+            }
+            if (ConstraintViolations.violates(e, TOPIC_FOREIGN_KEY)) {
+                throw missingTopic(content.getTopic());
+            }
+            throw e;
+        }
+        AfterCommit.run(() -> searchStrategy.onSaved(saved));
+    }
+
+    @Override
+    @Transactional
+    public long patchItem(ContentId id, long expectedVersion, ContentPatch patch) {
+        int updated;
+        try {
+            updated = jpa.patch(id.getValue(), expectedVersion, patch, LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.violates(e, TITLE_UNIQUE_INDEX)) {
+                throw new IllegalStateException("Cannot update: Content with title '" + patch.title() + "' already exists for another item.");
+            }
+            if (ConstraintViolations.violates(e, TOPIC_FOREIGN_KEY)) {
+                throw missingTopic(patch.topic());
+            }
+            throw e;
+        }
+        if (updated == 0) {
+            // Only the failure path pays for telling a missing row from a stale version
+            if (!jpa.existsById(id.getValue())) {
+                throw new IllegalArgumentException("Content not found with id: " + id);
+            }
+            throw new OptimisticLockingFailureException(
+                    "Content " + id + " was modified by another request (expected version " + expectedVersion + "), reload it and retry");
+        }
+        AfterCommit.run(() -> searchStrategy.onPatched(id.getValue()));
+        return expectedVersion + 1;
     }
 
     @Override
@@ -62,5 +308,10 @@ public class ContentRepositoryImpl implements IContentRepository {
     public void deleteItem(ContentId id) {
         if (id == null) return;
         jpa.deleteById(id.getValue());
+        AfterCommit.run(() -> searchStrategy.onDeleted(id.getValue()));
+    }
+
+    private static IllegalStateException missingTopic(String topic) {
+        return new IllegalStateException("The referenced Topic/Category with ID " + topic + " does not exist.");
     }
 }
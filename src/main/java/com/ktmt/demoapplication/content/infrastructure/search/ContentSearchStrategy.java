@@ -0,0 +1,60 @@
+package com.ktmt.demoapplication.content.infrastructure.search;
+
+import com.ktmt.demoapplication.content.domain.model.ContentFacets;
+import com.ktmt.demoapplication.content.infrastructure.persistence.entity.ContentJpaEntity;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Search strategy used by ContentRepositoryImpl.searchItems.
+ * The active implementation is selected with the property {@code content.search.engine}.
+ *
+ * SOLID Principles Applied:
+ * - Open/Closed Principle (OCP): New search engines are added as new strategies, the repository stays unchanged
+ * - Liskov Substitution Principle (LSP): Every strategy returns the same matches for the same criteria
+ */
+public interface ContentSearchStrategy {
+
+    /**
+     * Find contents whose title or description contains the criteria (case-insensitive)
+     */
+    List<ContentJpaEntity> search(String criteria);
+
+    /**
+     * Find one page of matching contents, best matches first when the engine can rank them
+     */
+    List<ContentJpaEntity> search(String criteria, int limit, int offset);
+
+    /**
+     * Count all matches per type and per topic, from the index or one aggregate query
+     */
+    ContentFacets facets(String criteria);
+
+    /**
+     * Called after a content row has been inserted or updated and the transaction committed
+     */
+    default void onSaved(ContentJpaEntity entity) {
+    }
+
+    /**
+     * Called after a content row has been changed by a partial UPDATE and the transaction committed;
+     * unlike onSaved there is no loaded entity, engines that mirror rows must read it back themselves
+     */
+    default void onPatched(UUID id) {
+    }
+
+    /**
+     * Called after the topic of many content rows has been changed in bulk and the transaction committed;
+     * only the topic changed, so engines that mirror rows can update them in place
+     */
+    default void onTopicChanged(Collection<UUID> ids, UUID topic) {
+    }
+
+    /**
+     * Called after a content row has been deleted and the transaction committed
+     */
+    default void onDeleted(UUID id) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.ktmt.demoapplication.content.infrastructure.search;
+
+import com.ktmt.demoapplication.common.text.TextFolding;
+import com.ktmt.demoapplication.content.domain.model.ContentFacets;
+import com.ktmt.demoapplication.content.infrastructure.persistence.entity.ContentJpaEntity;
+import com.ktmt.demoapplication.content.infrastructure.persistence.repository.ContentJpaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Default search strategy: LIKE over the accent- and case-folded title and description columns,
+ * served by the trigram indexes created in schema.sql
+ */
+@Component
+@ConditionalOnProperty(name = "content.search.engine", havingValue = "database", matchIfMissing = true)
+public class DatabaseContentSearchStrategy implements ContentSearchStrategy {
+
+    private final ContentJpaRepository jpa;
+
+    public DatabaseContentSearchStrategy(ContentJpaRepository jpa) {
+        this.jpa = jpa;
+    }
+
+    @Override
+    public List<ContentJpaEntity> search(String criteria) {
+        String folded = TextFolding.fold(criteria);
+        return jpa.findByTitleFoldedContainingOrDescriptionFoldedContaining(folded, folded);
+    }
+
+    @Override
+    public List<ContentJpaEntity> search(String criteria, int limit, int offset) {
+        return jpa.searchPage(containsPattern(TextFolding.fold(criteria)), limit, offset);
+    }
+
+    @Override
+    public ContentFacets facets(String criteria) {
+        return FacetRows.toFacets(jpa.countFacetsByPattern(containsPattern(TextFolding.fold(criteria))));
+    }
+
+    /**
+     * Build a LIKE pattern matching the criteria literally anywhere in the text
+     */
+    public static String containsPattern(String criteria) {
+        String escaped = criteria
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,29 @@
+package com.ktmt.demoapplication.content.infrastructure.search;
+
+import com.ktmt.demoapplication.content.domain.model.ContentFacets;
+import com.ktmt.demoapplication.content.infrastructure.persistence.repository.ContentJpaRepository.FacetCountRow;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts GROUPING SETS rows, where each row carries either a type or a topic, into ContentFacets
+ */
+public final class FacetRows {
+
+    private FacetRows() {}
+
+    public static ContentFacets toFacets(List<FacetCountRow> rows) {
+        Map<String, Long> byType = new HashMap<>();
+        Map<String, Long> byTopic = new HashMap<>();
+        for (FacetCountRow row : rows) {
+            if (row.getType() != null) {
+                byType.put(row.getType(), row.getTotal());
+            } else if (row.getTopic() != null) {
+                byTopic.put(row.getTopic().toString(), row.getTotal());
+            }
+        }
+        return new ContentFacets(byType, byTopic);
+    }
+}
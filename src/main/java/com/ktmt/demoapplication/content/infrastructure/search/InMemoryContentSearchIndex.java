@@ -0,0 +1,247 @@
+package com.ktmt.demoapplication.content.infrastructure.search;
+
+import com.ktmt.demoapplication.common.text.TextFolding;
+import com.ktmt.demoapplication.content.domain.model.ContentFacets;
+import com.ktmt.demoapplication.content.infrastructure.persistence.entity.ContentJpaEntity;
+import com.ktmt.demoapplication.content.infrastructure.persistence.repository.ContentJpaRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over content title and description.
+ *
+ * Texts are accent- and case-folded (see TextFolding) and split into character trigrams; each trigram maps to the ids of the
+ * contents containing it. A query is answered by intersecting the posting lists of its trigrams
+ * and verifying the few remaining candidates with a plain substring check, so results are exactly
+ * those of the database LIKE query without scanning the contents table.
+ * Queries shorter than a trigram fall back to a scan of the in-memory documents.
+ *
+ * The index is rebuilt at startup and kept up to date by ContentRepositoryImpl after each commit.
+ */
+@Component
+@ConditionalOnProperty(name = "content.search.engine", havingValue = "in-memory")
+public class InMemoryContentSearchIndex implements ContentSearchStrategy {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryContentSearchIndex.class);
+    private static final int GRAM = 3;
+
+    // Same order as the database strategy: created_at DESC, id
+    private static final Comparator<Match> NEWEST_FIRST = Comparator
+            .comparing(Match::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Match::id);
+
+    private final ContentJpaRepository jpa;
+
+    private final Map<UUID, IndexedDocument> documents = new HashMap<>();
+    private final Map<String, Set<UUID>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public InMemoryContentSearchIndex(ContentJpaRepository jpa) {
+        this.jpa = jpa;
+    }
+
+    /**
+     * Rebuild the whole index from the contents table
+     */
+    @PostConstruct
+    public void rebuild() {
+        List<ContentJpaEntity> all = jpa.findAll();
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            all.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Content search index rebuilt with {} documents and {} trigrams", all.size(), postings.size());
+    }
+
+    @Override
+    public List<ContentJpaEntity> search(String criteria) {
+        List<UUID> ids = findMatches(criteria).stream().map(Match::id).toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpa.findAllById(ids);
+    }
+
+    @Override
+    public List<ContentJpaEntity> search(String criteria, int limit, int offset) {
+        List<UUID> page = findMatches(criteria).stream()
+                .sorted(NEWEST_FIRST)
+                .skip(offset)
+                .limit(limit)
+                .map(Match::id)
+                .toList();
+        if (page.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, ContentJpaEntity> loaded = new HashMap<>();
+        jpa.findAllById(page).forEach(e -> loaded.put(e.getId(), e));
+        return page.stream().map(loaded::get).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    public ContentFacets facets(String criteria) {
+        Map<String, Long> byType = new HashMap<>();
+        Map<String, Long> byTopic = new HashMap<>();
+        for (Match match : findMatches(criteria)) {
+            byType.merge(match.type(), 1L, Long::sum);
+            byTopic.merge(match.topic(), 1L, Long::sum);
+        }
+        return new ContentFacets(byType, byTopic);
+    }
+
+    @Override
+    public void onSaved(ContentJpaEntity entity) {
+        lock.writeLock().lock();
+        try {
+            remove(entity.getId());
+            put(entity);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onPatched(UUID id) {
+        jpa.findById(id).ifPresentOrElse(this::onSaved, () -> onDeleted(id));
+    }
+
+    @Override
+    public void onTopicChanged(Collection<UUID> ids, UUID topic) {
+        lock.writeLock().lock();
+        try {
+            for (UUID id : ids) {
+                // the text is unchanged, so the postings stay as they are
+                documents.computeIfPresent(id, (key, document) -> document.withTopic(topic.toString()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onDeleted(UUID id) {
+        lock.writeLock().lock();
+        try {
+            remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<Match> findMatches(String criteria) {
+        String needle = normalize(criteria);
+        lock.readLock().lock();
+        try {
+            Iterable<UUID> candidates = needle.length() < GRAM ? documents.keySet() : candidatesFor(needle);
+            List<Match> matches = new ArrayList<>();
+            for (UUID id : candidates) {
+                IndexedDocument document = documents.get(id);
+                if (document.contains(needle)) {
+                    matches.add(new Match(id, document.createdAt(), document.type(), document.topic()));
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Set<UUID> candidatesFor(String needle) {
+        List<Set<UUID>> lists = new ArrayList<>();
+        for (String gram : trigrams(needle)) {
+            Set<UUID> posting = postings.get(gram);
+            if (posting == null) {
+                return Collections.emptySet();
+            }
+            lists.add(posting);
+        }
+        // Intersect starting from the rarest trigram to keep the working set small
+        lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+        Set<UUID> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private void put(ContentJpaEntity entity) {
+        IndexedDocument document = new IndexedDocument(
+                normalize(entity.getTitle()), normalize(entity.getDescription()),
+                entity.getCreatedAt(), entity.getType(), entity.getTopic().toString());
+        documents.put(entity.getId(), document);
+        for (String gram : document.trigrams()) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(entity.getId());
+        }
+    }
+
+    private void remove(UUID id) {
+        IndexedDocument previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : previous.trigrams()) {
+            Set<UUID> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : TextFolding.fold(text);
+    }
+
+    private static Set<String> trigrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private record Match(UUID id, LocalDateTime createdAt, String type, String topic) {
+    }
+
+    private record IndexedDocument(String title, String description,
+                                   LocalDateTime createdAt, String type, String topic) {
+
+        IndexedDocument withTopic(String newTopic) {
+            return new IndexedDocument(title, description, createdAt, type, newTopic);
+        }
+
+        boolean contains(String needle) {
+            return title.contains(needle) || description.contains(needle);
+        }
+
+        Set<String> trigrams() {
+            Set<String> grams = InMemoryContentSearchIndex.trigrams(title);
+            grams.addAll(InMemoryContentSearchIndex.trigrams(description));
+            return grams;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.ktmt.demoapplication.content.infrastructure.search;
+
+import com.ktmt.demoapplication.common.text.TextFolding;
+import com.ktmt.demoapplication.content.domain.model.ContentFacets;
+import com.ktmt.demoapplication.content.infrastructure.persistence.entity.ContentJpaEntity;
+import com.ktmt.demoapplication.content.infrastructure.persistence.repository.ContentJpaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PostgreSQL full-text search strategy.
+ *
+ * Uses the {@code search_vector} column maintained by a trigger (see schema.sql) from the folded
+ * title and description, the title weighted above the description, and a GIN index on it.
+ * Paged searches are ranked with {@code ts_rank_cd}; every word of the criteria is matched as a
+ * prefix so partially typed words still hit.
+ */
+@Component
+@ConditionalOnProperty(name = "content.search.engine", havingValue = "fulltext")
+public class PostgresFullTextContentSearchStrategy implements ContentSearchStrategy {
+
+    private final ContentJpaRepository jpa;
+
+    public PostgresFullTextContentSearchStrategy(ContentJpaRepository jpa) {
+        this.jpa = jpa;
+    }
+
+    /**
+     * Unranked lookups (e.g. title uniqueness checks) keep the substring semantics of the database strategy
+     */
+    @Override
+    public List<ContentJpaEntity> search(String criteria) {
+        String folded = TextFolding.fold(criteria);
+        return jpa.findByTitleFoldedContainingOrDescriptionFoldedContaining(folded, folded);
+    }
+
+    @Override
+    public List<ContentJpaEntity> search(String criteria, int limit, int offset) {
+        String query = toPrefixQuery(TextFolding.fold(criteria));
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        return jpa.fullTextSearchPage(query, limit, offset);
+    }
+
+    @Override
+    public ContentFacets facets(String criteria) {
+        String query = toPrefixQuery(TextFolding.fold(criteria));
+        if (query.isEmpty()) {
+            return new ContentFacets(Map.of(), Map.of());
+        }
+        return FacetRows.toFacets(jpa.countFullTextFacets(query));
+    }
+
+    /**
+     * Turn folded free text into a tsquery such as {@code lap:* & trinh:*}.
+     * Only letters and digits are kept so user input can never break the tsquery syntax.
+     */
+    static String toPrefixQuery(String criteria) {
+        List<String> terms = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < criteria.length(); i++) {
+            char ch = criteria.charAt(i);
+            if (Character.isLetterOrDigit(ch)) {
+                current.append(Character.toLowerCase(ch));
+            } else if (!current.isEmpty()) {
+                terms.add(current + ":*");
+                current.setLength(0);
+            }
+        }
+        if (!current.isEmpty()) {
+            terms.add(current + ":*");
+        }
+        return String.join(" & ", terms);
+    }
+}
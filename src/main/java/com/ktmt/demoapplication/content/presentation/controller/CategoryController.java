@@ -1,14 +1,21 @@
 package com.ktmt.demoapplication.content.presentation.controller;
 
+import com.ktmt.demoapplication.common.batch.BatchResult;
+import com.ktmt.demoapplication.common.pagination.CursorPage;
 import com.ktmt.demoapplication.content.application.dto.CategoryResponse;
+import com.ktmt.demoapplication.content.application.dto.ContentResponse;
 import com.ktmt.demoapplication.content.application.usecase.CreateCategoryUseCase;
 import com.ktmt.demoapplication.content.application.usecase.DeleteCategoryUseCase;
 import com.ktmt.demoapplication.content.application.usecase.GetCategoryUseCase;
+import com.ktmt.demoapplication.content.application.usecase.GetContentUseCase;
 import com.ktmt.demoapplication.content.application.usecase.UpdateCategoryUseCase;
+import com.ktmt.demoapplication.content.domain.model.CategoryDeletionMode;
 import com.ktmt.demoapplication.content.presentation.dto.CategoryApiResponse;
+import com.ktmt.demoapplication.content.presentation.dto.ContentApiResponse;
 import com.ktmt.demoapplication.content.presentation.dto.CreateCategoryApiRequest;
 import com.ktmt.demoapplication.content.presentation.dto.UpdateCategoryApiRequest;
 import com.ktmt.demoapplication.user.presentation.dto.ApiResponseData;
+import com.ktmt.demoapplication.user.presentation.dto.BatchGetApiRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -44,16 +51,19 @@ public class CategoryController {
     private final GetCategoryUseCase getCategoryUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
+    private final GetContentUseCase getContentUseCase;
 
     public CategoryController(
             CreateCategoryUseCase createCategoryUseCase,
             GetCategoryUseCase getCategoryUseCase,
             UpdateCategoryUseCase updateCategoryUseCase,
-            DeleteCategoryUseCase deleteCategoryUseCase) {
+            DeleteCategoryUseCase deleteCategoryUseCase,
+            GetContentUseCase getContentUseCase) {
         this.createCategoryUseCase = createCategoryUseCase;
         this.getCategoryUseCase = getCategoryUseCase;
         this.updateCategoryUseCase = updateCategoryUseCase;
         this.deleteCategoryUseCase = deleteCategoryUseCase;
+        this.getContentUseCase = getContentUseCase;
     }
 
     @Operation(summary = "Create a new category", description = "Creates a new category with the provided information")
@@ -71,19 +81,39 @@ public class CategoryController {
                 .body(ApiResponseData.success("Category created successfully", apiResponse));
     }
 
-    @Operation(summary = "Get all categories", description = "Retrieves a list of all categories")
+    @Operation(summary = "Get all categories", description = "Retrieves categories page by page, newest first. Pass the returned nextCursor to get the following page; it is absent on the last page")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "List of categories retrieved successfully")
+            @ApiResponse(responseCode = "200", description = "Page of categories retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or size")
     })
     @GetMapping
-    public ResponseEntity<ApiResponseData<List<CategoryApiResponse>>> getAllCategories() {
-        List<CategoryResponse> responses = getCategoryUseCase.getAllCategory();
+    public ResponseEntity<ApiResponseData<List<CategoryApiResponse>>> getAllCategories(
+            @Parameter(description = "nextCursor of the previous page, omit for the first page") @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Page size (1-100)") @RequestParam(value = "size", required = false, defaultValue = "20") int size) {
+        CursorPage<CategoryResponse> page = getCategoryUseCase.getCategoryPage(cursor, size);
 
-        List<CategoryApiResponse> apiResponses = responses.stream()
+        List<CategoryApiResponse> apiResponses = page.items().stream()
                 .map(CategoryApiResponse::from)
                 .toList();
 
-        return ResponseEntity.ok(ApiResponseData.success(apiResponses));
+        return ResponseEntity.ok(ApiResponseData.page(apiResponses, page.nextCursorToken()));
+    }
+
+    @Operation(summary = "Get categories by IDs", description = "Retrieves up to " + BatchResult.MAX_IDS + " categories in one request, in the order of the given ids. Ids that match no category are listed in missingIds")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Categories found, unknown ids listed in missingIds"),
+            @ApiResponse(responseCode = "400", description = "No ids, too many ids or invalid category ID format")
+    })
+    @PostMapping("/batch-get")
+    public ResponseEntity<ApiResponseData<List<CategoryApiResponse>>> getCategoriesByIds(
+            @Valid @RequestBody BatchGetApiRequest request) {
+        BatchResult<CategoryResponse> result = getCategoryUseCase.getCategoriesByIds(request.ids());
+
+        List<CategoryApiResponse> apiResponses = result.items().stream()
+                .map(CategoryApiResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(ApiResponseData.batch(apiResponses, result.missingIds()));
     }
 
     @Operation(summary = "Get category by ID", description = "Retrieves a category by its unique identifier")
@@ -101,6 +131,27 @@ public class CategoryController {
         return ResponseEntity.ok(ApiResponseData.success(apiResponse));
     }
 
+    @Operation(summary = "Get content of a category", description = "Retrieves the content whose topic is this category, page by page, newest first. Pass the returned nextCursor to get the following page; it is absent on the last page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of content retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid category ID format, cursor or size"),
+            @ApiResponse(responseCode = "404", description = "Category not found")
+    })
+    @GetMapping("/{id}/content")
+    public ResponseEntity<ApiResponseData<List<ContentApiResponse>>> getCategoryContent(
+            @Parameter(description = "Category ID (UUID format)", required = true) @PathVariable String id,
+            @Parameter(description = "nextCursor of the previous page, omit for the first page") @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Page size (1-100)") @RequestParam(value = "size", required = false, defaultValue = "20") int size) {
+        UUID categoryId = UUID.fromString(id);
+        CursorPage<ContentResponse> page = getContentUseCase.getContentPageByCategory(categoryId, cursor, size);
+
+        List<ContentApiResponse> apiResponses = page.items().stream()
+                .map(ContentApiResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(ApiResponseData.page(apiResponses, page.nextCursorToken()));
+    }
+
     @Operation(summary = "Update category", description = "Updates an existing category's information")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category updated successfully"),
@@ -116,17 +167,20 @@ public class CategoryController {
         return ResponseEntity.ok(ApiResponseData.success("Category updated successfully", null));
     }
 
-    @Operation(summary = "Delete category", description = "Deletes a category from the system")
+    @Operation(summary = "Delete category", description = "Deletes a category from the system. With mode=REJECT (default) a category that is still the topic of some content is refused; REASSIGN first moves its content to targetId, CASCADE first deletes its content. Content is moved or deleted in chunks, each in its own transaction")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category deleted successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid category ID format"),
-            @ApiResponse(responseCode = "404", description = "Category not found")
+            @ApiResponse(responseCode = "400", description = "Invalid category ID format, mode or target category"),
+            @ApiResponse(responseCode = "404", description = "Category not found"),
+            @ApiResponse(responseCode = "409", description = "Category is still the topic of some content")
     })
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponseData<Void>> deleteCategory(
-            @Parameter(description = "Category ID (UUID format)", required = true) @PathVariable String id) {
+            @Parameter(description = "Category ID (UUID format)", required = true) @PathVariable String id,
+            @Parameter(description = "What to do with the category's content") @RequestParam(value = "mode", required = false, defaultValue = "REJECT") CategoryDeletionMode mode,
+            @Parameter(description = "Category receiving the content, required with mode=REASSIGN") @RequestParam(value = "targetId", required = false) UUID targetId) {
         UUID categoryId = UUID.fromString(id);
-        deleteCategoryUseCase.execute(categoryId);
+        deleteCategoryUseCase.execute(categoryId, mode, targetId);
         return ResponseEntity.ok(ApiResponseData.success("Category deleted successfully", null));
     }
 }
@@ -1,14 +1,33 @@
 package com.ktmt.demoapplication.content.presentation.controller;
 
+import com.ktmt.demoapplication.common.batch.BatchResult;
+import com.ktmt.demoapplication.common.importing.NdjsonImportReport;
+import com.ktmt.demoapplication.common.pagination.CursorPage;
 import com.ktmt.demoapplication.content.application.dto.ContentResponse;
+import com.ktmt.demoapplication.content.application.dto.EnrichedContentResponse;
+import com.ktmt.demoapplication.content.application.dto.FacetedSearchResponse;
+import com.ktmt.demoapplication.content.application.dto.TitleSuggestionResponse;
 import com.ktmt.demoapplication.content.application.usecase.CreateContentUseCase;
 import com.ktmt.demoapplication.content.application.usecase.DeleteContentUseCase;
 import com.ktmt.demoapplication.content.application.usecase.GetContentUseCase;
+import com.ktmt.demoapplication.content.application.usecase.ImportContentUseCase;
+import com.ktmt.demoapplication.content.application.usecase.SuggestContentTitleUseCase;
 import com.ktmt.demoapplication.content.application.usecase.UpdateContentUseCase;
+import com.ktmt.demoapplication.content.domain.model.ContentFilter;
+import com.ktmt.demoapplication.content.domain.model.ContentSort;
+import com.ktmt.demoapplication.content.application.dto.ContentImportRow;
 import com.ktmt.demoapplication.content.presentation.dto.ContentApiResponse;
+import com.ktmt.demoapplication.content.presentation.dto.ContentImportApiResult;
 import com.ktmt.demoapplication.content.presentation.dto.CreateContentApiRequest;
+import com.ktmt.demoapplication.content.presentation.dto.EnrichedContentApiResponse;
+import com.ktmt.demoapplication.content.presentation.dto.FacetedSearchApiResponse;
+import com.ktmt.demoapplication.content.presentation.dto.PatchContentApiRequest;
+import com.ktmt.demoapplication.content.presentation.dto.TitleSuggestionApiResponse;
 import com.ktmt.demoapplication.content.presentation.dto.UpdateContentApiRequest;
+import com.ktmt.demoapplication.content.presentation.importing.CsvContentImportReader;
+import com.ktmt.demoapplication.content.presentation.importing.NdjsonContentImportReader;
 import com.ktmt.demoapplication.user.presentation.dto.ApiResponseData;
+import com.ktmt.demoapplication.user.presentation.dto.BatchGetApiRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,10 +36,19 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -43,16 +71,25 @@ public class ContentController {
     private final GetContentUseCase getContentUseCase;
     private final UpdateContentUseCase updateContentUseCase;
     private final DeleteContentUseCase deleteContentUseCase;
+    private final SuggestContentTitleUseCase suggestContentTitleUseCase;
+    private final ImportContentUseCase importContentUseCase;
+    private final JsonMapper jsonMapper;
 
     public ContentController(
             CreateContentUseCase createContentUseCase,
             GetContentUseCase getContentUseCase,
             UpdateContentUseCase updateContentUseCase,
-            DeleteContentUseCase deleteContentUseCase) {
+            DeleteContentUseCase deleteContentUseCase,
+            SuggestContentTitleUseCase suggestContentTitleUseCase,
+            ImportContentUseCase importContentUseCase,
+            JsonMapper jsonMapper) {
         this.createContentUseCase = createContentUseCase;
         this.getContentUseCase = getContentUseCase;
         this.updateContentUseCase = updateContentUseCase;
         this.deleteContentUseCase = deleteContentUseCase;
+        this.suggestContentTitleUseCase = suggestContentTitleUseCase;
+        this.importContentUseCase = importContentUseCase;
+        this.jsonMapper = jsonMapper;
     }
 
     @Operation(summary = "Create new content", description = "Creates new content with the provided information")
@@ -71,29 +108,107 @@ public class ContentController {
                 .body(ApiResponseData.success("Content created successfully", apiResponse));
     }
 
-    @Operation(summary = "Get all content", description = "Retrieves a list of all content")
+    @Operation(summary = "Get all content", description = "Retrieves content page by page, newest first. Pass the returned nextCursor to get the following page; it is absent on the last page")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "List of content retrieved successfully")
+            @ApiResponse(responseCode = "200", description = "Page of content retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or size")
     })
     @GetMapping
-    public ResponseEntity<ApiResponseData<List<ContentApiResponse>>> getAllContent() {
-        List<ContentResponse> responses = getContentUseCase.getAllContent();
+    public ResponseEntity<ApiResponseData<List<ContentApiResponse>>> getAllContent(
+            @Parameter(description = "nextCursor of the previous page, omit for the first page") @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Page size (1-100)") @RequestParam(value = "size", required = false, defaultValue = "20") int size) {
+        CursorPage<ContentResponse> page = getContentUseCase.getContentPage(cursor, size);
 
-        List<ContentApiResponse> apiResponses = responses.stream()
+        List<ContentApiResponse> apiResponses = page.items().stream()
                 .map(ContentApiResponse::from)
                 .toList();
 
-        return ResponseEntity.ok(ApiResponseData.success(apiResponses));
+        return ResponseEntity.ok(ApiResponseData.page(apiResponses, page.nextCursorToken()));
+    }
+
+    @Operation(summary = "Get all content with names", description = "Same pages as GET /api/v1/content, each item also carrying its category name and creator name. The names of a page are resolved together, with at most one user query per page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of content retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or size")
+    })
+    @GetMapping("/enriched")
+    public ResponseEntity<ApiResponseData<List<EnrichedContentApiResponse>>> getAllContentEnriched(
+            @Parameter(description = "nextCursor of the previous page, omit for the first page") @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Page size (1-100)") @RequestParam(value = "size", required = false, defaultValue = "20") int size) {
+        CursorPage<EnrichedContentResponse> page = getContentUseCase.getEnrichedContentPage(cursor, size);
+
+        List<EnrichedContentApiResponse> apiResponses = page.items().stream()
+                .map(EnrichedContentApiResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(ApiResponseData.page(apiResponses, page.nextCursorToken()));
+    }
+
+    @Operation(summary = "Stream all content", description = "Streams every content matching cond (all content when empty) as newline-delimited JSON, one object per line, for sync jobs. Memory use does not depend on the catalog size")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Content streamed successfully")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamContent(
+            @Parameter(description = "Search condition (keyword to search in title, description, etc.)") @RequestParam(value = "cond", required = false, defaultValue = "") String cond) {
+        StreamingResponseBody body = out -> {
+            try {
+                getContentUseCase.streamContent(cond, response -> {
+                    try {
+                        out.write(jsonMapper.writeValueAsBytes(ContentApiResponse.from(response)));
+                        out.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @Operation(summary = "Import content from NDJSON", description = "Creates content in bulk from one JSON object per line, with the fields of the create request. The body is streamed and validated in chunks; the response streams one result line per record, in input order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import report streamed, one line per record")
+    })
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importContentNdjson(InputStream body) {
+        return importReport(new NdjsonContentImportReader(body, jsonMapper));
+    }
+
+    @Operation(summary = "Import content from CSV", description = "Creates content in bulk from a CSV file whose header names the columns title, description, type, topic, createdBy. The body is streamed and validated in chunks; the response streams one result line per record, in input order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import report streamed, one line per record"),
+            @ApiResponse(responseCode = "400", description = "Missing or incomplete CSV header")
+    })
+    @PostMapping(value = "/import", consumes = "text/csv", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importContentCsv(InputStream body) {
+        return importReport(new CsvContentImportReader(body));
+    }
+
+    private ResponseEntity<StreamingResponseBody> importReport(Iterator<ContentImportRow> rows) {
+        return NdjsonImportReport.stream(jsonMapper, report ->
+                importContentUseCase.execute(rows, result -> report.accept(ContentImportApiResult.from(result))));
     }
 
-    @Operation(summary = "Search content", description = "Searches content based on search conditions")
+    @Operation(summary = "Search content", description = "Searches content based on search conditions. Results are paginated and ranked by relevance when the full-text engine is enabled. With fuzzy=true, misspelled keywords still match and results are ordered by similarity")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Search results retrieved successfully")
     })
     @GetMapping("/search")
     public ResponseEntity<ApiResponseData<List<ContentApiResponse>>> searchContent(
-            @Parameter(description = "Search condition (keyword to search in title, description, etc.)") @RequestParam(value = "cond", required = false, defaultValue = "") String cond) {
-        List<ContentResponse> responses = getContentUseCase.searchContent(cond);
+            @Parameter(description = "Search condition (keyword to search in title, description, etc.)") @RequestParam(value = "cond", required = false, defaultValue = "") String cond,
+            @Parameter(description = "Maximum number of results (1-100)") @RequestParam(value = "limit", required = false, defaultValue = "20") int limit,
+            @Parameter(description = "Number of results to skip") @RequestParam(value = "offset", required = false, defaultValue = "0") int offset,
+            @Parameter(description = "Typo-tolerant trigram matching") @RequestParam(value = "fuzzy", required = false, defaultValue = "false") boolean fuzzy,
+            @Parameter(description = "Minimum similarity for fuzzy matching (0-1), defaults to the server setting") @RequestParam(value = "threshold", required = false) Double threshold) {
+        List<ContentResponse> responses = fuzzy
+                ? getContentUseCase.fuzzySearchContent(cond, threshold, limit, offset)
+                : getContentUseCase.searchContent(cond, limit, offset);
 
         List<ContentApiResponse> apiResponses = responses.stream()
                 .map(ContentApiResponse::from)
@@ -102,6 +217,83 @@ public class ContentController {
         return ResponseEntity.ok(ApiResponseData.success(apiResponses));
     }
 
+    @Operation(summary = "Filter content", description = "Retrieves one page of content matching all given criteria. Every criterion is optional and date ranges are inclusive (ISO-8601, e.g. 2025-01-31T00:00:00)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Filtered content retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid range, sort, limit or offset")
+    })
+    @GetMapping("/filter")
+    public ResponseEntity<ApiResponseData<List<ContentApiResponse>>> filterContent(
+            @Parameter(description = "Content type (text, video, quiz, interactive_lab)") @RequestParam(value = "type", required = false) String type,
+            @Parameter(description = "Topic") @RequestParam(value = "topic", required = false) String topic,
+            @Parameter(description = "Creator's ID") @RequestParam(value = "createdBy", required = false) String createdBy,
+            @Parameter(description = "Created at or after") @RequestParam(value = "createdFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @Parameter(description = "Created at or before") @RequestParam(value = "createdTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @Parameter(description = "Updated at or after") @RequestParam(value = "updatedFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedFrom,
+            @Parameter(description = "Updated at or before") @RequestParam(value = "updatedTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedTo,
+            @Parameter(description = "Sort order") @RequestParam(value = "sort", required = false, defaultValue = "NEWEST_FIRST") ContentSort sort,
+            @Parameter(description = "Maximum number of results (1-100)") @RequestParam(value = "limit", required = false, defaultValue = "20") int limit,
+            @Parameter(description = "Number of results to skip") @RequestParam(value = "offset", required = false, defaultValue = "0") int offset) {
+        ContentFilter filter = new ContentFilter(type, topic, createdBy, createdFrom, createdTo, updatedFrom, updatedTo, sort);
+        List<ContentResponse> responses = getContentUseCase.filterContent(filter, limit, offset);
+
+        List<ContentApiResponse> apiResponses = responses.stream()
+                .map(ContentApiResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(ApiResponseData.success(apiResponses));
+    }
+
+    @Operation(summary = "Search content with facets", description = "Same matching as /search, and additionally returns the number of matches per type and per topic computed in a single aggregate pass")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Search results and facet counts retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid limit or offset")
+    })
+    @GetMapping("/search/faceted")
+    public ResponseEntity<ApiResponseData<FacetedSearchApiResponse>> facetedSearchContent(
+            @Parameter(description = "Search condition (keyword to search in title, description, etc.)") @RequestParam(value = "cond", required = false, defaultValue = "") String cond,
+            @Parameter(description = "Maximum number of results (1-100)") @RequestParam(value = "limit", required = false, defaultValue = "20") int limit,
+            @Parameter(description = "Number of results to skip") @RequestParam(value = "offset", required = false, defaultValue = "0") int offset) {
+        FacetedSearchResponse response = getContentUseCase.facetedSearchContent(cond, limit, offset);
+
+        return ResponseEntity.ok(ApiResponseData.success(FacetedSearchApiResponse.from(response)));
+    }
+
+    @Operation(summary = "Suggest content titles", description = "Autocompletes content titles from an in-memory prefix index, ignoring case and diacritics")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid limit")
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponseData<List<TitleSuggestionApiResponse>>> suggestTitles(
+            @Parameter(description = "Beginning of the title typed so far", required = true) @RequestParam("prefix") String prefix,
+            @Parameter(description = "Maximum number of suggestions (1-50)") @RequestParam(value = "limit", required = false, defaultValue = "10") int limit) {
+        List<TitleSuggestionResponse> responses = suggestContentTitleUseCase.execute(prefix, limit);
+
+        List<TitleSuggestionApiResponse> apiResponses = responses.stream()
+                .map(TitleSuggestionApiResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(ApiResponseData.success(apiResponses));
+    }
+
+    @Operation(summary = "Get content by IDs", description = "Retrieves up to " + BatchResult.MAX_IDS + " content items in one request and one query, in the order of the given ids. Ids that match no content are listed in missingIds")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Content found, unknown ids listed in missingIds"),
+            @ApiResponse(responseCode = "400", description = "No ids, too many ids or invalid content ID format")
+    })
+    @PostMapping("/batch-get")
+    public ResponseEntity<ApiResponseData<List<ContentApiResponse>>> getContentByIds(
+            @Valid @RequestBody BatchGetApiRequest request) {
+        BatchResult<ContentResponse> result = getContentUseCase.getContentByIds(request.ids());
+
+        List<ContentApiResponse> apiResponses = result.items().stream()
+                .map(ContentApiResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(ApiResponseData.batch(apiResponses, result.missingIds()));
+    }
+
     @Operation(summary = "Get content by ID", description = "Retrieves content by its unique identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Content found", content = @Content(schema = @Schema(implementation = ContentApiResponse.class))),
@@ -130,6 +322,20 @@ public class ContentController {
         return ResponseEntity.ok(ApiResponseData.success("Content updated successfully", null));
     }
 
+    @Operation(summary = "Partially update content", description = "Updates only the given fields in one statement, if the content is still at the given version; returns the new version")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Content updated successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input, nothing to update or content not found"),
+            @ApiResponse(responseCode = "409", description = "Content changed since the given version, or title already used")
+    })
+    @PatchMapping("/{id}")
+    public ResponseEntity<ApiResponseData<Long>> patchContent(
+            @Parameter(description = "Content ID", required = true) @PathVariable String id,
+            @Valid @RequestBody PatchContentApiRequest request) {
+        long version = updateContentUseCase.patch(id, request.toApplicationDto());
+        return ResponseEntity.ok(ApiResponseData.success("Content updated successfully", version));
+    }
+
     @Operation(summary = "Delete content", description = "Deletes content from the system")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Content deleted successfully"),
@@ -31,7 +31,9 @@ public record ContentApiResponse(
 
         @Schema(description = "Timestamp when the content was created", example = "2024-12-01T15:30:00") LocalDateTime createdAt,
 
-        @Schema(description = "Timestamp when the content was last updated", example = "2024-12-01T15:30:00") LocalDateTime updatedAt){
+        @Schema(description = "Timestamp when the content was last updated", example = "2024-12-01T15:30:00") LocalDateTime updatedAt,
+
+        @Schema(description = "Version to send back with a partial update", example = "3") long version){
     public static ContentApiResponse from(ContentResponse response) {
         return new ContentApiResponse(
                 response.contentId(),
@@ -41,6 +43,7 @@ public record ContentApiResponse(
                 response.topic(),
                 response.createdBy(),
                 response.createdAt(),
-                response.updatedAt());
+                response.updatedAt(),
+                response.version());
     }
 }
@@ -0,0 +1,33 @@
+package com.ktmt.demoapplication.content.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ktmt.demoapplication.content.application.dto.ContentImportResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Locale;
+
+/**
+ * API Response DTO for one line of a bulk import report
+ *
+ * SOLID Principles Applied:
+ * - Single Responsibility Principle (SRP): Only responsible for API response
+ * structure
+ */
+@Schema(description = "Outcome of one imported record")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ContentImportApiResult(
+        @Schema(description = "1-based record number in the file, header excluded", example = "42") long row,
+
+        @Schema(description = "Outcome", allowableValues = { "created", "rejected" }) String status,
+
+        @Schema(description = "Id of the created content", example = "550e8400-e29b-41d4-a716-446655440000") String contentId,
+
+        @Schema(description = "Why the record was rejected", example = "Invalid content type: podcast") String error) {
+    public static ContentImportApiResult from(ContentImportResult result) {
+        return new ContentImportApiResult(
+                result.row(),
+                result.status().name().toLowerCase(Locale.ROOT),
+                result.contentId(),
+                result.error());
+    }
+}
@@ -0,0 +1,27 @@
+package com.ktmt.demoapplication.content.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.ktmt.demoapplication.content.application.dto.EnrichedContentResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * API Response DTO for content in list views: the content fields plus the names they reference
+ *
+ * SOLID Principles Applied:
+ * - Single Responsibility Principle (SRP): Only responsible for API response
+ * structure
+ */
+@Schema(description = "Content response data with category and creator names")
+public record EnrichedContentApiResponse(
+        @JsonUnwrapped ContentApiResponse content,
+
+        @Schema(description = "Name of the topic's category, null when unknown", example = "Java") String categoryName,
+
+        @Schema(description = "Full name of the creator, null when unknown", example = "John Doe") String creatorName) {
+    public static EnrichedContentApiResponse from(EnrichedContentResponse response) {
+        return new EnrichedContentApiResponse(
+                ContentApiResponse.from(response.content()),
+                response.categoryName(),
+                response.creatorName());
+    }
+}
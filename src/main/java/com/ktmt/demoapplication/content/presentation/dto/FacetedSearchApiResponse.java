@@ -0,0 +1,29 @@
+package com.ktmt.demoapplication.content.presentation.dto;
+
+import com.ktmt.demoapplication.content.application.dto.FacetedSearchResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * API Response DTO for a search page together with facet counts over all matches
+ *
+ * SOLID Principles Applied:
+ * - Single Responsibility Principle (SRP): Only responsible for API response
+ * structure
+ */
+@Schema(description = "Search results with per-type and per-topic counts")
+public record FacetedSearchApiResponse(
+        @Schema(description = "Requested page of matching content") List<ContentApiResponse> items,
+
+        @Schema(description = "Number of matches per content type", example = "{\"text\": 12, \"video\": 3}") Map<String, Long> typeCounts,
+
+        @Schema(description = "Number of matches per topic", example = "{\"java\": 9, \"spring\": 6}") Map<String, Long> topicCounts) {
+    public static FacetedSearchApiResponse from(FacetedSearchResponse response) {
+        return new FacetedSearchApiResponse(
+                response.items().stream().map(ContentApiResponse::from).toList(),
+                response.typeCounts(),
+                response.topicCounts());
+    }
+}
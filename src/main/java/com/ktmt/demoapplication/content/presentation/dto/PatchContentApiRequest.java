@@ -0,0 +1,28 @@
+package com.ktmt.demoapplication.content.presentation.dto;
+
+import com.ktmt.demoapplication.content.application.dto.PatchContentRequest;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * API Request DTO for partially updating content
+ *
+ * SOLID Principles Applied:
+ * - Single Responsibility Principle (SRP): Only responsible for API request
+ * validation
+ */
+@Schema(description = "Request body for partially updating content; omitted fields are left unchanged")
+public record PatchContentApiRequest(
+        @Schema(description = "Content title", example = "Introduction to Java") @Size(min = 1, max = 255, message = "Title must be between 1 and 255 characters") String title,
+
+        @Schema(description = "Content description", example = "Learn the basics of Java programming") String description,
+
+        @Schema(description = "Topic/Category ID (UUID format)", example = "550e8400-e29b-41d4-a716-446655440000") @Pattern(regexp = "^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$", message = "Topic must be a valid UUID") String topic,
+
+        @Schema(description = "Version of the content as last read; the update is rejected with 409 if it changed since", example = "3", requiredMode = Schema.RequiredMode.REQUIRED) @NotNull(message = "Version is required") Long version) {
+    public PatchContentRequest toApplicationDto() {
+        return new PatchContentRequest(title, description, topic, version);
+    }
+}
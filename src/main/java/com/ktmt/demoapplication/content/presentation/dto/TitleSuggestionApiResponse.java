@@ -0,0 +1,23 @@
+package com.ktmt.demoapplication.content.presentation.dto;
+
+import com.ktmt.demoapplication.content.application.dto.TitleSuggestionResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * API Response DTO for a title autocomplete suggestion
+ *
+ * SOLID Principles Applied:
+ * - Single Responsibility Principle (SRP): Only responsible for API response
+ * structure
+ */
+@Schema(description = "Content title suggestion")
+public record TitleSuggestionApiResponse(
+        @Schema(description = "Content's unique identifier", example = "c1a2b3c4-d5e6-7f8g-9h0i-1j2k3l4m5n6o") String contentId,
+
+        @Schema(description = "Content title", example = "Introduction to Java") String title) {
+    public static TitleSuggestionApiResponse from(TitleSuggestionResponse response) {
+        return new TitleSuggestionApiResponse(
+                response.contentId(),
+                response.title());
+    }
+}
@@ -0,0 +1,147 @@
+package com.ktmt.demoapplication.content.presentation.importing;
+
+import com.ktmt.demoapplication.content.application.dto.ContentImportRow;
+import com.ktmt.demoapplication.content.application.dto.CreateContentRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads an RFC 4180 CSV import body: a header naming the columns (title, description, type, topic,
+ * createdBy, in any order, case-insensitive), then one content per record. Quoted fields may hold
+ * commas, doubled quotes and line breaks. Records are parsed one at a time as the import consumes them.
+ */
+public class CsvContentImportReader implements Iterator<ContentImportRow> {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("title", "type", "topic", "createdby");
+
+    private final Reader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long row;
+    private List<String> nextRecord;
+    private boolean exhausted;
+    // the input ended inside a quoted field: the record just read is the last one and is truncated
+    private boolean unterminated;
+
+    /**
+     * Read the header right away, so a body without the required columns is refused before anything is imported
+     */
+    public CsvContentImportReader(InputStream body) {
+        this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV import body is empty, a header row is required");
+        }
+        if (unterminated) {
+            throw new IllegalArgumentException("CSV header has an unterminated quoted field");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(c -> !columns.containsKey(c)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV header is missing columns: " + missing);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (nextRecord == null && !exhausted) {
+            List<String> record = readRecord();
+            if (record == null) {
+                exhausted = true;
+            } else if (unterminated || !(record.size() == 1 && record.getFirst().isBlank())) {
+                nextRecord = record;
+            }
+        }
+        return nextRecord != null;
+    }
+
+    @Override
+    public ContentImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        List<String> record = nextRecord;
+        nextRecord = null;
+        row++;
+        if (unterminated) {
+            // reported like any bad record, so the rows before it are still imported
+            return ContentImportRow.malformed(row, "Unterminated quoted field, the input ends inside it");
+        }
+        if (record.size() != columns.size()) {
+            return ContentImportRow.malformed(row, "Expected " + columns.size() + " fields but found " + record.size());
+        }
+        return ContentImportRow.of(row, new CreateContentRequest(
+                field(record, "title"),
+                field(record, "description"),
+                field(record, "type"),
+                field(record, "topic"),
+                field(record, "createdby")));
+    }
+
+    private String field(List<String> record, String column) {
+        Integer index = columns.get(column);
+        return index == null ? null : record.get(index);
+    }
+
+    /**
+     * Next record as its list of fields, null at the end of the input
+     */
+    private List<String> readRecord() {
+        try {
+            int ch = reader.read();
+            if (ch == -1) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (ch == -1) {
+                        unterminated = true;
+                        fields.add(field.toString());
+                        return fields;
+                    }
+                    if (ch == '"') {
+                        ch = reader.read();
+                        if (ch == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            continue;
+                        }
+                    } else {
+                        field.append((char) ch);
+                    }
+                } else if (ch == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (ch == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (ch == '\n' || ch == -1) {
+                    fields.add(field.toString());
+                    return fields;
+                } else if (ch != '\r') {
+                    field.append((char) ch);
+                }
+                ch = reader.read();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
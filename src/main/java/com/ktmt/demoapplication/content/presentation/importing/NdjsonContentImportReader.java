@@ -0,0 +1,31 @@
+package com.ktmt.demoapplication.content.presentation.importing;
+
+import com.ktmt.demoapplication.common.importing.NdjsonLineReader;
+import com.ktmt.demoapplication.content.application.dto.ContentImportRow;
+import com.ktmt.demoapplication.content.application.dto.CreateContentRequest;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.InputStream;
+
+/**
+ * Reads an NDJSON import body whose lines have the fields of CreateContentApiRequest
+ */
+public class NdjsonContentImportReader extends NdjsonLineReader<ContentImportRow> {
+
+    private final JsonMapper jsonMapper;
+
+    public NdjsonContentImportReader(InputStream body, JsonMapper jsonMapper) {
+        super(body);
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    protected ContentImportRow parse(long row, String line) {
+        try {
+            return ContentImportRow.of(row, jsonMapper.readValue(line, CreateContentRequest.class));
+        } catch (JacksonException e) {
+            return ContentImportRow.malformed(row, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.ktmt.demoapplication.stats.application.dto;
+
+import com.ktmt.demoapplication.stats.domain.model.CatalogStatistics;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public record CatalogStatisticsResponse(
+        long totalContent,
+        Map<String, Long> contentByCategory,
+        Map<String, Long> contentByType,
+        Map<String, Long> topCreators,
+        long activeUsers,
+        long inactiveUsers,
+        LocalDateTime refreshedAt
+) {
+    public static CatalogStatisticsResponse from(CatalogStatistics statistics) {
+        return new CatalogStatisticsResponse(
+                statistics.totalContent(),
+                statistics.contentByCategory(),
+                statistics.contentByType(),
+                statistics.topCreators(),
+                statistics.activeUsers(),
+                statistics.inactiveUsers(),
+                statistics.refreshedAt());
+    }
+}
@@ -0,0 +1,29 @@
+package com.ktmt.demoapplication.stats.application.usecase;
+
+import com.ktmt.demoapplication.stats.application.dto.CatalogStatisticsResponse;
+import com.ktmt.demoapplication.stats.domain.repository.ICatalogStatisticsRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Dashboard counters read from the precomputed statistics, never by counting the tables
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetCatalogStatisticsUseCase {
+
+    public static final int MAX_TOP_CREATORS = 1000;
+
+    private final ICatalogStatisticsRepository statisticsRepository;
+
+    public GetCatalogStatisticsUseCase(ICatalogStatisticsRepository statisticsRepository) {
+        this.statisticsRepository = statisticsRepository;
+    }
+
+    public CatalogStatisticsResponse execute(int topCreators) {
+        if (topCreators < 1 || topCreators > MAX_TOP_CREATORS) {
+            throw new IllegalArgumentException("topCreators must be between 1 and " + MAX_TOP_CREATORS);
+        }
+        return CatalogStatisticsResponse.from(statisticsRepository.getStatistics(topCreators));
+    }
+}
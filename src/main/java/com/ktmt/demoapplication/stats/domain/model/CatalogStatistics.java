@@ -0,0 +1,31 @@
+package com.ktmt.demoapplication.stats.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Value Object holding the dashboard counters as of refreshedAt: content per category, per type and
+ * per creator (most prolific first, limited to the top creators), and users per status
+ *
+ * SOLID Principles Applied:
+ * - Single Responsibility Principle (SRP): Only carries aggregated counts
+ * - Immutability: Counts cannot be changed after creation
+ */
+public record CatalogStatistics(
+        long totalContent,
+        Map<String, Long> contentByCategory,
+        Map<String, Long> contentByType,
+        Map<String, Long> topCreators,
+        long activeUsers,
+        long inactiveUsers,
+        LocalDateTime refreshedAt
+) {
+    public CatalogStatistics {
+        contentByCategory = Map.copyOf(contentByCategory);
+        contentByType = Map.copyOf(contentByType);
+        // keeps the ranking order
+        topCreators = Collections.unmodifiableMap(new LinkedHashMap<>(topCreators));
+    }
+}
@@ -0,0 +1,22 @@
+package com.ktmt.demoapplication.stats.domain.repository;
+
+import com.ktmt.demoapplication.stats.domain.model.CatalogStatistics;
+
+/**
+ * Catalog Statistics Repository Interface (Port in Hexagonal Architecture)
+ *
+ * Counters are precomputed: reading them does not depend on the number of contents or users,
+ * and they lag the tables by at most one refresh interval.
+ */
+public interface ICatalogStatisticsRepository {
+
+    /**
+     * Read the precomputed counters, with at most topCreators entries in the creator ranking
+     */
+    CatalogStatistics getStatistics(int topCreators);
+
+    /**
+     * Recompute the counters from the contents and users tables
+     */
+    void refresh();
+}
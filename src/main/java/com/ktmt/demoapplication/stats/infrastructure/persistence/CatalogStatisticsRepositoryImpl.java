@@ -0,0 +1,87 @@
+package com.ktmt.demoapplication.stats.infrastructure.persistence;
+
+import com.ktmt.demoapplication.stats.domain.model.CatalogStatistics;
+import com.ktmt.demoapplication.stats.domain.repository.ICatalogStatisticsRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the catalog_stats materialized view (see schema.sql): one row per category and type, two for
+ * the user statuses, and an index range scan for the creator ranking. The time of the last refresh
+ * comes from the single row of catalog_stats_refresh.
+ */
+@Repository
+public class CatalogStatisticsRepositoryImpl implements ICatalogStatisticsRepository {
+
+    private static final String SELECT_COUNTERS =
+            "SELECT dimension, bucket, total FROM catalog_stats WHERE dimension <> 'creator'";
+
+    private static final String SELECT_REFRESHED_AT = "SELECT refreshed_at FROM catalog_stats_refresh";
+
+    // served by idx_catalog_stats_dimension_total
+    private static final String SELECT_TOP_CREATORS =
+            "SELECT bucket, total FROM catalog_stats WHERE dimension = 'creator' ORDER BY total DESC, bucket LIMIT ?";
+
+    private static final String REFRESH = "REFRESH MATERIALIZED VIEW CONCURRENTLY catalog_stats";
+
+    private static final String RECORD_REFRESH =
+            "INSERT INTO catalog_stats_refresh (id, refreshed_at) VALUES (true, now()) " +
+            "ON CONFLICT (id) DO UPDATE SET refreshed_at = EXCLUDED.refreshed_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CatalogStatisticsRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public CatalogStatistics getStatistics(int topCreators) {
+        Map<String, Long> byCategory = new HashMap<>();
+        Map<String, Long> byType = new HashMap<>();
+        Map<String, Long> byUserStatus = new HashMap<>();
+        jdbcTemplate.query(SELECT_COUNTERS, rs -> {
+            String bucket = rs.getString("bucket");
+            long total = rs.getLong("total");
+            switch (rs.getString("dimension")) {
+                case "category" -> byCategory.put(bucket, total);
+                case "type" -> byType.put(bucket, total);
+                case "user_status" -> byUserStatus.put(bucket, total);
+                default -> { }
+            }
+        });
+
+        Map<String, Long> creators = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_TOP_CREATORS,
+                rs -> { creators.put(rs.getString("bucket"), rs.getLong("total")); },
+                topCreators);
+
+        List<LocalDateTime> refreshedAt = jdbcTemplate.queryForList(SELECT_REFRESHED_AT, LocalDateTime.class);
+
+        long totalContent = byType.values().stream().mapToLong(Long::longValue).sum();
+        return new CatalogStatistics(
+                totalContent,
+                byCategory,
+                byType,
+                creators,
+                byUserStatus.getOrDefault("active", 0L),
+                byUserStatus.getOrDefault("inactive", 0L),
+                refreshedAt.isEmpty() ? null : refreshedAt.getFirst());
+    }
+
+    /**
+     * The view and its refresh time change together: readers never see new counters with an old time
+     */
+    @Override
+    @Transactional
+    public void refresh() {
+        jdbcTemplate.execute(REFRESH);
+        jdbcTemplate.update(RECORD_REFRESH);
+    }
+}
@@ -0,0 +1,39 @@
+package com.ktmt.demoapplication.stats.infrastructure.persistence;
+
+import com.ktmt.demoapplication.stats.domain.repository.ICatalogStatisticsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refreshes the catalog statistics periodically. The refresh is concurrent, so dashboards keep
+ * reading the previous counters while it runs; every instance refreshing is harmless, only wasteful.
+ *
+ * Kept out of the repository so the scheduled refresh does not go through its proxy.
+ */
+@Component
+public class CatalogStatsRefresher {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogStatsRefresher.class);
+
+    private final ICatalogStatisticsRepository statisticsRepository;
+
+    CatalogStatsRefresher(ICatalogStatisticsRepository statisticsRepository) {
+        this.statisticsRepository = statisticsRepository;
+    }
+
+    @Scheduled(fixedDelayString = "${stats.refresh-interval:1m}",
+            initialDelayString = "${stats.refresh-interval:1m}")
+    void refresh() {
+        long start = System.nanoTime();
+        try {
+            statisticsRepository.refresh();
+            log.debug("Catalog statistics refreshed in {} ms", (System.nanoTime() - start) / 1_000_000);
+        } catch (DataAccessException e) {
+            // the previous counters stay readable; retried on the next run
+            log.warn("Catalog statistics refresh failed: {}", e.getMessage());
+        }
+    }
+}
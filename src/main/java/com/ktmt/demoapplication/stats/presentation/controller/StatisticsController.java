@@ -0,0 +1,49 @@
+package com.ktmt.demoapplication.stats.presentation.controller;
+
+import com.ktmt.demoapplication.stats.application.dto.CatalogStatisticsResponse;
+import com.ktmt.demoapplication.stats.application.usecase.GetCatalogStatisticsUseCase;
+import com.ktmt.demoapplication.stats.presentation.dto.CatalogStatisticsApiResponse;
+import com.ktmt.demoapplication.user.presentation.dto.ApiResponseData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for dashboard statistics
+ *
+ * SOLID Principles Applied:
+ * - Single Responsibility Principle (SRP): Only handles HTTP requests/responses
+ * - Dependency Inversion Principle (DIP): Depends on use case abstractions
+ */
+@Tag(name = "Statistics", description = "Content and user counters for dashboards")
+@RestController
+@RequestMapping("/api/v1/stats")
+public class StatisticsController {
+
+    private final GetCatalogStatisticsUseCase getCatalogStatisticsUseCase;
+
+    public StatisticsController(GetCatalogStatisticsUseCase getCatalogStatisticsUseCase) {
+        this.getCatalogStatisticsUseCase = getCatalogStatisticsUseCase;
+    }
+
+    @Operation(summary = "Get catalog statistics", description = "Returns content counts per category, per type and for the top creators, and active/inactive user counts. Counters are precomputed and refreshed periodically (stats.refresh-interval), so the cost does not grow with the data and refreshedAt tells how recent they are")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully", content = @Content(schema = @Schema(implementation = CatalogStatisticsApiResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid topCreators")
+    })
+    @GetMapping
+    public ResponseEntity<ApiResponseData<CatalogStatisticsApiResponse>> getStatistics(
+            @Parameter(description = "Number of creators in the ranking (1-1000)") @RequestParam(value = "topCreators", required = false, defaultValue = "100") int topCreators) {
+        CatalogStatisticsResponse response = getCatalogStatisticsUseCase.execute(topCreators);
+        return ResponseEntity.ok(ApiResponseData.success(CatalogStatisticsApiResponse.from(response)));
+    }
+}
@@ -0,0 +1,41 @@
+package com.ktmt.demoapplication.stats.presentation.dto;
+
+import com.ktmt.demoapplication.stats.application.dto.CatalogStatisticsResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * API Response DTO for the dashboard counters
+ *
+ * SOLID Principles Applied:
+ * - Single Responsibility Principle (SRP): Only responsible for API response
+ * structure
+ */
+@Schema(description = "Content and user counters, as of the last statistics refresh")
+public record CatalogStatisticsApiResponse(
+        @Schema(description = "Number of contents", example = "15") long totalContent,
+
+        @Schema(description = "Number of contents per category id", example = "{\"3f2b6c1e-8a4d-4f0e-9b7a-2c5d1e6f8a90\": 15}") Map<String, Long> contentByCategory,
+
+        @Schema(description = "Number of contents per content type", example = "{\"text\": 12, \"video\": 3}") Map<String, Long> contentByType,
+
+        @Schema(description = "Number of contents per creator id, most prolific first") Map<String, Long> topCreators,
+
+        @Schema(description = "Number of active users", example = "120") long activeUsers,
+
+        @Schema(description = "Number of inactive users", example = "8") long inactiveUsers,
+
+        @Schema(description = "When the counters were last computed, null if they never were") LocalDateTime refreshedAt) {
+    public static CatalogStatisticsApiResponse from(CatalogStatisticsResponse response) {
+        return new CatalogStatisticsApiResponse(
+                response.totalContent(),
+                response.contentByCategory(),
+                response.contentByType(),
+                response.topCreators(),
+                response.activeUsers(),
+                response.inactiveUsers(),
+                response.refreshedAt());
+    }
+}
@@ -0,0 +1,16 @@
+package com.ktmt.demoapplication.user.application.dto;
+
+/**
+ * DTO for partially updating user information: null fields are left unchanged
+ *
+ * SOLID Principles Applied:
+ * - Single Responsibility Principle (SRP): Only responsible for carrying user patch data
+ */
+public record PatchUserRequest(
+    String firstName,
+    String lastName,
+    String email,
+    Integer age,
+    long version
+) {
+}
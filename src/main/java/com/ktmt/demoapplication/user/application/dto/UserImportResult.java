@@ -0,0 +1,22 @@
+package com.ktmt.demoapplication.user.application.dto;
+
+/**
+ * Outcome of one record of a bulk user import
+ */
+public record UserImportResult(
+    long row,
+    Status status,
+    String userId,
+    String error
+) {
+
+    public enum Status { CREATED, REJECTED }
+
+    public static UserImportResult created(long row, String userId) {
+        return new UserImportResult(row, Status.CREATED, userId, null);
+    }
+
+    public static UserImportResult rejected(long row, String error) {
+        return new UserImportResult(row, Status.REJECTED, null, error);
+    }
+}
@@ -0,0 +1,20 @@
+package com.ktmt.demoapplication.user.application.dto;
+
+import com.ktmt.demoapplication.common.importing.ImportRow;
+
+/**
+ * One record of a bulk user import: the user to create, or why the record could not be read
+ *
+ * @param row   1-based position of the record in the file
+ * @param error parse error, null when user is set
+ */
+public record UserImportRow(long row, CreateUserRequest user, String error) implements ImportRow {
+
+    public static UserImportRow of(long row, CreateUserRequest user) {
+        return new UserImportRow(row, user, null);
+    }
+
+    public static UserImportRow malformed(long row, String error) {
+        return new UserImportRow(row, null, error);
+    }
+}
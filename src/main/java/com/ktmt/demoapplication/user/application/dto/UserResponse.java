@@ -20,7 +20,8 @@ public record UserResponse(
     Integer age,
     boolean active,
     LocalDateTime createdAt,
-    LocalDateTime updatedAt
+    LocalDateTime updatedAt,
+    long version
 ) {
     public static UserResponse from(User user) {
         return new UserResponse(
@@ -32,7 +33,8 @@ public record UserResponse(
             user.getAge(),
             user.isActive(),
             user.getCreatedAt(),
-            user.getUpdatedAt()
+            user.getUpdatedAt(),
+            user.getVersion()
         );
     }
 }
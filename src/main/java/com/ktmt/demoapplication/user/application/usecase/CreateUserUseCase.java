@@ -43,7 +43,7 @@ public class CreateUserUseCase {
         );
 
         // Persist entity
-        User savedUser = userRepository.save(user);
+        User savedUser = userRepository.add(user);
 
         // Return response DTO
         return UserResponse.from(savedUser);
@@ -1,5 +1,8 @@
 package com.ktmt.demoapplication.user.application.usecase;
 
+import com.ktmt.demoapplication.common.batch.BatchResult;
+import com.ktmt.demoapplication.common.pagination.CursorPage;
+import com.ktmt.demoapplication.common.pagination.PageCursor;
 import com.ktmt.demoapplication.user.application.dto.UserResponse;
 import com.ktmt.demoapplication.user.domain.model.User;
 import com.ktmt.demoapplication.user.domain.model.UserId;
@@ -7,7 +10,9 @@ import com.ktmt.demoapplication.user.domain.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Use Case for retrieving users
@@ -33,15 +38,20 @@ public class GetUserUseCase {
         return UserResponse.from(user);
     }
 
-    public List<UserResponse> getAllUsers() {
-        return userRepository.findAll().stream()
-            .map(UserResponse::from)
-            .toList();
+    /**
+     * Multi-get in one query: the found users in request order, unknown ids listed as missing
+     */
+    public BatchResult<UserResponse> getByIds(List<String> ids) {
+        BatchResult.requireValidIds(ids);
+        List<UserId> userIds = ids.stream().map(UserId::from).toList();
+        Map<UserId, User> found = new HashMap<>();
+        userRepository.findAllByIds(userIds).forEach(user -> found.put(user.getId(), user));
+        return BatchResult.of(userIds, found).map(UserResponse::from);
     }
 
-    public List<UserResponse> getAllActiveUsers() {
-        return userRepository.findAllActive().stream()
-            .map(UserResponse::from)
-            .toList();
+    public CursorPage<UserResponse> getUserPage(String cursor, int size, boolean activeOnly) {
+        CursorPage.requireValidSize(size);
+        return userRepository.findPage(PageCursor.decode(cursor), size, activeOnly)
+            .map(UserResponse::from);
     }
 }
@@ -0,0 +1,78 @@
+package com.ktmt.demoapplication.user.application.usecase;
+
+import com.ktmt.demoapplication.common.importing.ChunkedImport;
+import com.ktmt.demoapplication.user.application.dto.CreateUserRequest;
+import com.ktmt.demoapplication.user.application.dto.UserImportResult;
+import com.ktmt.demoapplication.user.application.dto.UserImportRow;
+import com.ktmt.demoapplication.user.domain.model.User;
+import com.ktmt.demoapplication.user.domain.model.UserId;
+import com.ktmt.demoapplication.user.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Use Case for onboarding users in bulk, e.g. a semester's students
+ *
+ * Records are handled chunk by chunk ({@code user.import.chunk-size}, see ChunkedImport), each
+ * chunk in its own transaction. Names, email and age are validated in-process by User.create; the
+ * valid users of a chunk are then written with UserRepository.addAll, which enforces email
+ * uniqueness for the whole chunk at once instead of one existsByEmail per user. A taken email
+ * rejects only its own record. Records are reported once their chunk has committed.
+ */
+@Service
+public class ImportUserUseCase extends ChunkedImport<UserImportRow, UserImportResult> {
+
+    private final UserRepository userRepository;
+
+    public ImportUserUseCase(UserRepository userRepository, PlatformTransactionManager transactionManager,
+                             @Value("${user.import.chunk-size:5000}") int chunkSize) {
+        super(transactionManager, chunkSize);
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    protected UserImportResult rejected(long row, String error) {
+        return UserImportResult.rejected(row, error);
+    }
+
+    @Override
+    protected List<UserImportResult> validateAndInsert(List<UserImportRow> chunk) {
+        UserImportResult[] results = new UserImportResult[chunk.size()];
+        List<User> candidates = new ArrayList<>(chunk.size());
+        List<Integer> positions = new ArrayList<>(chunk.size());
+
+        for (int i = 0; i < chunk.size(); i++) {
+            UserImportRow row = chunk.get(i);
+            if (row.error() != null) {
+                results[i] = UserImportResult.rejected(row.row(), row.error());
+                continue;
+            }
+            CreateUserRequest req = row.user();
+            try {
+                candidates.add(User.create(req.firstName(), req.lastName(), req.email(), req.age()));
+                positions.add(i);
+            } catch (IllegalArgumentException e) {
+                results[i] = UserImportResult.rejected(row.row(), e.getMessage());
+            }
+        }
+
+        Set<UserId> inserted = new HashSet<>();
+        userRepository.addAll(candidates).forEach(user -> inserted.add(user.getId()));
+
+        for (int k = 0; k < candidates.size(); k++) {
+            User user = candidates.get(k);
+            int i = positions.get(k);
+            long row = chunk.get(i).row();
+            results[i] = inserted.contains(user.getId())
+                ? UserImportResult.created(row, user.getId().toString())
+                : UserImportResult.rejected(row, "Email already exists: " + user.getEmail().getValue());
+        }
+        return List.of(results);
+    }
+}
@@ -1,10 +1,12 @@
 package com.ktmt.demoapplication.user.application.usecase;
 
+import com.ktmt.demoapplication.user.application.dto.PatchUserRequest;
 import com.ktmt.demoapplication.user.application.dto.UpdateUserRequest;
 import com.ktmt.demoapplication.user.application.dto.UserResponse;
 import com.ktmt.demoapplication.user.domain.model.Email;
 import com.ktmt.demoapplication.user.domain.model.User;
 import com.ktmt.demoapplication.user.domain.model.UserId;
+import com.ktmt.demoapplication.user.domain.model.UserPatch;
 import com.ktmt.demoapplication.user.domain.repository.UserRepository;
 import com.ktmt.demoapplication.user.domain.service.UserDomainService;
 import org.springframework.stereotype.Service;
@@ -54,4 +56,24 @@ public class UpdateUserUseCase {
         // Return response DTO
         return UserResponse.from(updatedUser);
     }
+
+    /**
+     * Change only the given fields, without loading the user, if it is still at the version the client read.
+     * Returns the new version.
+     */
+    public long patch(String id, PatchUserRequest request) {
+        UserId userId = UserId.from(id);
+        Email newEmail = request.email() == null ? null : Email.from(request.email());
+        UserPatch patch = new UserPatch(request.firstName(), request.lastName(), newEmail, request.age());
+        if (patch.isEmpty()) {
+            throw new IllegalArgumentException("Nothing to update: set at least one of firstName, lastName, email, age");
+        }
+
+        // Validate business rules
+        if (newEmail != null) {
+            userDomainService.ensureEmailIsUniqueForUser(newEmail, userId);
+        }
+
+        return userRepository.patch(userId, request.version(), patch);
+    }
 }
@@ -14,12 +14,17 @@ public class Email {
     private static final Pattern EMAIL_PATTERN =
         Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
 
+    private static final int MAX_LENGTH = 100; // users.email column
+
     private final String value;
 
     private Email(String value) {
         if (value == null || value.trim().isEmpty()) {
             throw new IllegalArgumentException("Email cannot be null or empty");
         }
+        if (value.trim().length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("Email cannot exceed " + MAX_LENGTH + " characters");
+        }
         if (!EMAIL_PATTERN.matcher(value).matches()) {
             throw new IllegalArgumentException("Invalid email format: " + value);
         }
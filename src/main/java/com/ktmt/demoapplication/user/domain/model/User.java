@@ -20,6 +20,7 @@ public class User {
     private boolean active;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private long version; // optimistic locking, incremented by every update
 
     // Private constructor to enforce creation through factory methods
     private User() {
@@ -46,7 +47,7 @@ public class User {
      */
     public static User reconstitute(UserId id, String firstName, String lastName,
                                    Email email, Integer age, boolean active,
-                                   LocalDateTime createdAt, LocalDateTime updatedAt) {
+                                   LocalDateTime createdAt, LocalDateTime updatedAt, long version) {
         User user = new User();
         user.id = id;
         user.firstName = firstName;
@@ -56,6 +57,7 @@ public class User {
         user.active = active;
         user.createdAt = createdAt;
         user.updatedAt = updatedAt;
+        user.version = version;
         return user;
     }
 
@@ -88,40 +90,53 @@ public class User {
 
     // Setters with business validation
     private void setFirstName(String firstName) {
+        this.firstName = requireValidFirstName(firstName);
+    }
+
+    private void setLastName(String lastName) {
+        this.lastName = requireValidLastName(lastName);
+    }
+
+    private void setEmail(Email email) {
+        if (email == null) {
+            throw new IllegalArgumentException("Email cannot be null");
+        }
+        this.email = email;
+    }
+
+    private void setAge(Integer age) {
+        this.age = requireValidAge(age);
+    }
+
+    // Field rules, shared with UserPatch
+    static String requireValidFirstName(String firstName) {
         if (firstName == null || firstName.trim().isEmpty()) {
             throw new IllegalArgumentException("First name cannot be null or empty");
         }
         if (firstName.length() > 50) {
             throw new IllegalArgumentException("First name cannot exceed 50 characters");
         }
-        this.firstName = firstName.trim();
+        return firstName.trim();
     }
 
-    private void setLastName(String lastName) {
+    static String requireValidLastName(String lastName) {
         if (lastName == null || lastName.trim().isEmpty()) {
             throw new IllegalArgumentException("Last name cannot be null or empty");
         }
         if (lastName.length() > 50) {
             throw new IllegalArgumentException("Last name cannot exceed 50 characters");
         }
-        this.lastName = lastName.trim();
+        return lastName.trim();
     }
 
-    private void setEmail(Email email) {
-        if (email == null) {
-            throw new IllegalArgumentException("Email cannot be null");
-        }
-        this.email = email;
-    }
-
-    private void setAge(Integer age) {
+    static Integer requireValidAge(Integer age) {
         if (age == null) {
             throw new IllegalArgumentException("Age cannot be null");
         }
         if (age < 0 || age > 150) {
             throw new IllegalArgumentException("Age must be between 0 and 150");
         }
-        this.age = age;
+        return age;
     }
 
     // Getters
@@ -161,6 +176,10 @@ public class User {
         return updatedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,5 +1,7 @@
 package com.ktmt.demoapplication.user.domain.model;
 
+import com.ktmt.demoapplication.common.id.Ids;
+
 import java.util.Objects;
 import java.util.UUID;
 
@@ -21,7 +23,7 @@ public class UserId {
     }
 
     public static UserId create() {
-        return new UserId(UUID.randomUUID());
+        return new UserId(Ids.next());
     }
 
     public static UserId from(UUID value) {
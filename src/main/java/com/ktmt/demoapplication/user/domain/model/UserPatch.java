@@ -0,0 +1,20 @@
+package com.ktmt.demoapplication.user.domain.model;
+
+/**
+ * Partial update of a User: null fields are left unchanged.
+ *
+ * Values are validated with the same rules as User itself, so a patch can be written without
+ * loading the aggregate first.
+ */
+public record UserPatch(String firstName, String lastName, Email email, Integer age) {
+
+    public UserPatch {
+        firstName = firstName == null ? null : User.requireValidFirstName(firstName);
+        lastName = lastName == null ? null : User.requireValidLastName(lastName);
+        age = age == null ? null : User.requireValidAge(age);
+    }
+
+    public boolean isEmpty() {
+        return firstName == null && lastName == null && email == null && age == null;
+    }
+}
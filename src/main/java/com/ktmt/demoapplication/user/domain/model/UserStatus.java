@@ -0,0 +1,10 @@
+package com.ktmt.demoapplication.user.domain.model;
+
+/**
+ * Whether a user exists and can act, read without loading the User aggregate
+ */
+public enum UserStatus {
+    ACTIVE,
+    INACTIVE,
+    NOT_FOUND
+}
@@ -1,10 +1,16 @@
 package com.ktmt.demoapplication.user.domain.repository;
 
+import com.ktmt.demoapplication.common.pagination.CursorPage;
+import com.ktmt.demoapplication.common.pagination.PageCursor;
 import com.ktmt.demoapplication.user.domain.model.Email;
 import com.ktmt.demoapplication.user.domain.model.User;
 import com.ktmt.demoapplication.user.domain.model.UserId;
+import com.ktmt.demoapplication.user.domain.model.UserPatch;
+import com.ktmt.demoapplication.user.domain.model.UserStatus;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -17,16 +23,49 @@ import java.util.Optional;
  */
 public interface UserRepository {
 
+    /**
+     * Add a newly created user, in a single INSERT
+     */
+    User add(User user);
+
+    /**
+     * Add many newly created users in one round of statements. Users whose email is already taken,
+     * or repeated earlier in the list, are skipped rather than failing the batch.
+     * Returns the users actually inserted, in input order.
+     */
+    List<User> addAll(List<User> users);
+
     /**
      * Save a user (create or update)
      */
     User save(User user);
 
+    /**
+     * Apply a partial update in a single statement, only if the user is still at expectedVersion.
+     * Returns the new version; fails with an optimistic locking failure when the user was changed meanwhile.
+     */
+    long patch(UserId id, long expectedVersion, UserPatch patch);
+
     /**
      * Find user by ID
      */
     Optional<User> findById(UserId id);
 
+    /**
+     * Find the users with the given IDs in one query, in no particular order; unknown IDs are left out
+     */
+    List<User> findAllByIds(Collection<UserId> ids);
+
+    /**
+     * Find only whether the user exists and is active, possibly from a short-lived cache
+     */
+    UserStatus findStatusById(UserId id);
+
+    /**
+     * Same as findStatusById for many users at once; every requested id is in the result
+     */
+    Map<UserId, UserStatus> findStatusesByIds(Collection<UserId> ids);
+
     /**
      * Find user by email
      */
@@ -42,6 +81,11 @@ public interface UserRepository {
      */
     List<User> findAllActive();
 
+    /**
+     * Find one page of users, newest first, starting after the cursor (null for the first page)
+     */
+    CursorPage<User> findPage(PageCursor after, int size, boolean activeOnly);
+
     /**
      * Delete user by ID
      */
@@ -51,4 +95,9 @@ public interface UserRepository {
      * Check if user exists by email
      */
     boolean existsByEmail(Email email);
+
+    /**
+     * Check if another user than the given one has this email
+     */
+    boolean existsByEmailExcluding(Email email, UserId excludedId);
 }
@@ -1,6 +1,7 @@
 package com.ktmt.demoapplication.user.domain.service;
 
 import com.ktmt.demoapplication.user.domain.model.Email;
+import com.ktmt.demoapplication.user.domain.model.UserId;
 import com.ktmt.demoapplication.user.domain.repository.UserRepository;
 import org.springframework.stereotype.Service;
 
@@ -37,4 +38,13 @@ public class UserDomainService {
             throw new IllegalStateException("Email already exists: " + email.getValue());
         }
     }
+
+    /**
+     * Same rule when the current email is not loaded: no other user may have it
+     */
+    public void ensureEmailIsUniqueForUser(Email email, UserId userId) {
+        if (userRepository.existsByEmailExcluding(email, userId)) {
+            throw new IllegalStateException("Email already exists: " + email.getValue());
+        }
+    }
 }
@@ -1,10 +1,14 @@
 package com.ktmt.demoapplication.user.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -18,13 +22,15 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "users", indexes = {
-    @Index(name = "idx_user_email", columnList = "email", unique = true)
+    @Index(name = "idx_user_email", columnList = "email", unique = true),
+    @Index(name = "idx_user_created_at_id", columnList = "created_at, id")
 })
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-public class UserJpaEntity {
+@DynamicUpdate
+public class UserJpaEntity implements Persistable<UUID> {
 
     @Id
     @Column(name = "id", updatable = false, nullable = false)
@@ -51,6 +57,39 @@ public class UserJpaEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * Optimistic lock: every UPDATE checks and increments it (see also UserPatchRepositoryImpl).
+     * The default lets ddl-auto add the column to a table that already has rows.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    /**
+     * Ids are assigned by the domain, so Spring Data cannot tell a new row from an existing one by its id
+     * and would merge (SELECT then INSERT). UserRepositoryImpl.add calls markNew() to get a plain persist instead.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    public void markNew() {
+        this.newEntity = true;
+    }
+
+    @PostPersist
+    @PostLoad
+    protected void markNotNew() {
+        this.newEntity = false;
+    }
+
     @PrePersist
     protected void onCreate() {
         if (createdAt == null) {
@@ -30,6 +30,7 @@ public class UserMapper {
         entity.setActive(user.isActive());
         entity.setCreatedAt(user.getCreatedAt());
         entity.setUpdatedAt(user.getUpdatedAt());
+        entity.setVersion(user.getVersion());
         return entity;
     }
 
@@ -45,7 +46,8 @@ public class UserMapper {
             entity.getAge(),
             entity.isActive(),
             entity.getCreatedAt(),
-            entity.getUpdatedAt()
+            entity.getUpdatedAt(),
+            entity.getVersion()
         );
     }
 }
@@ -0,0 +1,118 @@
+package com.ktmt.demoapplication.user.infrastructure.persistence.repository;
+
+import com.ktmt.demoapplication.common.bloom.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter over the normalized emails of all users, letting UserRepositoryImpl.existsByEmail
+ * answer "definitely new" without a query.
+ *
+ * Loaded once the application is ready by streaming the users.email column; until then every email
+ * is reported as possibly present so callers fall through to the database. Emails are added as soon
+ * as they are saved, before commit: a rolled back save only costs a false positive, whereas adding
+ * after commit would leave a window with false negatives.
+ *
+ * Metrics (user.email.filter.*) report how many checks were skipped and how many maybe-positives
+ * turned out to be false, to size user.email-filter.expected-insertions.
+ */
+@Component
+public class EmailExistenceFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailExistenceFilter.class);
+
+    private final UserJpaRepository jpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final BloomFilter filter;
+    private final AtomicLong insertions = new AtomicLong();
+    private volatile boolean ready;
+
+    private final Counter definiteNegatives;
+    private final Counter truePositives;
+    private final Counter falsePositives;
+
+    public EmailExistenceFilter(UserJpaRepository jpaRepository,
+                                TransactionTemplate transactionTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${user.email-filter.enabled:true}") boolean enabled,
+                                @Value("${user.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                                @Value("${user.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.jpaRepository = jpaRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+
+        this.definiteNegatives = checks(meterRegistry, "definite_negative");
+        this.truePositives = checks(meterRegistry, "true_positive");
+        this.falsePositives = checks(meterRegistry, "false_positive");
+        Gauge.builder("user.email.filter.insertions", insertions, AtomicLong::get)
+            .description("Emails added to the filter")
+            .register(meterRegistry);
+        Gauge.builder("user.email.filter.expected.fpp", filter, BloomFilter::expectedFalsePositiveRate)
+            .description("False positive rate expected from the current fill ratio")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<String> emails = jpaRepository.streamAllEmails()) {
+                emails.forEach(this::add);
+            }
+        });
+        ready = true;
+        log.info("Email filter loaded with {} emails ({} bits, {} hashes)", insertions.get(), filter.bitCount(), filter.hashCount());
+    }
+
+    /**
+     * False only when the email is certainly not stored; true means "ask the database"
+     */
+    public boolean mightContain(String email) {
+        if (!ready) {
+            return true;
+        }
+        if (filter.mightContain(email)) {
+            return true;
+        }
+        definiteNegatives.increment();
+        return false;
+    }
+
+    /**
+     * Record the database answer for an email the filter reported as possibly present
+     */
+    public void recordMaybeOutcome(boolean exists) {
+        if (ready) {
+            (exists ? truePositives : falsePositives).increment();
+        }
+    }
+
+    public void add(String email) {
+        if (enabled) {
+            filter.put(email);
+            insertions.incrementAndGet();
+        }
+    }
+
+    private static Counter checks(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("user.email.filter.checks")
+            .description("Email uniqueness checks by filter outcome")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,126 @@
+package com.ktmt.demoapplication.user.infrastructure.persistence.repository;
+
+import com.ktmt.demoapplication.user.infrastructure.persistence.entity.UserJpaEntity;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bulk insert of new users with PostgreSQL COPY, used by UserRepositoryImpl.addAll.
+ *
+ * Rows are streamed into a temporary staging table with a single COPY, then merged into users with
+ * one INSERT ... SELECT: a row whose email is already stored, or repeated earlier in the same batch,
+ * is skipped by ON CONFLICT DO NOTHING / DISTINCT ON instead of aborting the batch. The ids returned
+ * by the merge tell the caller which users were inserted.
+ *
+ * Runs on the connection of the current transaction; the staging table is dropped at commit.
+ */
+@Component
+public class UserCopyLoader {
+
+    private static final String CREATE_STAGING =
+        "CREATE TEMP TABLE IF NOT EXISTS user_import_staging (" +
+        "ord integer NOT NULL, id uuid NOT NULL, first_name varchar(50) NOT NULL, last_name varchar(50) NOT NULL, " +
+        "email varchar(100) NOT NULL, age integer NOT NULL, active boolean NOT NULL, " +
+        "created_at timestamp NOT NULL, updated_at timestamp NOT NULL) ON COMMIT DROP";
+
+    private static final String COPY_INTO_STAGING =
+        "COPY user_import_staging (ord, id, first_name, last_name, email, age, active, created_at, updated_at) " +
+        "FROM STDIN WITH (FORMAT csv)";
+
+    // the first row wins for an email repeated within the batch
+    private static final String MERGE_INTO_USERS =
+        "INSERT INTO users (id, first_name, last_name, email, age, active, created_at, updated_at, version) " +
+        "SELECT DISTINCT ON (s.email) s.id, s.first_name, s.last_name, s.email, s.age, s.active, s.created_at, s.updated_at, 0 " +
+        "FROM user_import_staging s ORDER BY s.email, s.ord " +
+        "ON CONFLICT DO NOTHING RETURNING id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserCopyLoader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insert the users whose email is not taken yet; returns the ids of the inserted rows
+     */
+    public Set<UUID> insertSkippingExistingEmails(List<UserJpaEntity> users) {
+        if (users.isEmpty()) {
+            return Set.of();
+        }
+        return jdbcTemplate.execute((ConnectionCallback<Set<UUID>>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING);
+                // staging rows of an earlier batch in the same transaction
+                statement.execute("TRUNCATE user_import_staging");
+            }
+            copyIntoStaging(connection, users);
+            Set<UUID> inserted = new HashSet<>();
+            try (PreparedStatement merge = connection.prepareStatement(MERGE_INTO_USERS);
+                 ResultSet ids = merge.executeQuery()) {
+                while (ids.next()) {
+                    inserted.add(ids.getObject(1, UUID.class));
+                }
+            }
+            return inserted;
+        });
+    }
+
+    private static void copyIntoStaging(Connection connection, List<UserJpaEntity> users) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                new PGCopyOutputStream(pgConnection, COPY_INTO_STAGING), StandardCharsets.UTF_8))) {
+            int ord = 0;
+            for (UserJpaEntity user : users) {
+                out.write(Integer.toString(ord++));
+                out.write(',');
+                out.write(user.getId().toString());
+                out.write(',');
+                writeText(out, user.getFirstName());
+                out.write(',');
+                writeText(out, user.getLastName());
+                out.write(',');
+                writeText(out, user.getEmail());
+                out.write(',');
+                out.write(user.getAge().toString());
+                out.write(',');
+                out.write(Boolean.toString(user.isActive()));
+                out.write(',');
+                out.write(user.getCreatedAt().toString());
+                out.write(',');
+                out.write(user.getUpdatedAt().toString());
+                out.write('\n');
+            }
+        } catch (IOException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // quoted CSV field: commas, quotes and line breaks in names are kept as they are
+    private static void writeText(Writer out, String value) throws IOException {
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
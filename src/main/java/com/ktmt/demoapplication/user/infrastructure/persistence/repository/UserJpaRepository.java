@@ -2,12 +2,19 @@ package com.ktmt.demoapplication.user.infrastructure.persistence.repository;
 
 import com.ktmt.demoapplication.user.infrastructure.persistence.entity.UserJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA Repository
@@ -17,12 +24,46 @@ import java.util.UUID;
  * - Dependency Inversion Principle (DIP): Framework provides implementation
  */
 @Repository
-public interface UserJpaRepository extends JpaRepository<UserJpaEntity, UUID> {
+public interface UserJpaRepository extends JpaRepository<UserJpaEntity, UUID>, UserPatchRepository {
 
     Optional<UserJpaEntity> findByEmail(String email);
 
+    @Query("SELECT u.active FROM UserJpaEntity u WHERE u.id = :id")
+    Optional<Boolean> findActiveById(@Param("id") UUID id);
+
+    // multi-get: one array parameter, so the statement is the same whatever the number of ids
+    @Query(value = "SELECT * FROM users u WHERE u.id = ANY(:ids)", nativeQuery = true)
+    List<UserJpaEntity> findAllByIdIn(@Param("ids") UUID[] ids);
+
+    @Query("SELECT u.id AS id, u.active AS active FROM UserJpaEntity u WHERE u.id IN :ids")
+    List<ActiveRow> findActiveByIds(@Param("ids") Collection<UUID> ids);
+
     @Query("SELECT u FROM UserJpaEntity u WHERE u.active = true")
     List<UserJpaEntity> findAllActive();
 
     boolean existsByEmail(String email);
+
+    boolean existsByEmailAndIdNot(String email, UUID id);
+
+    // every stored email through a server-side cursor, used to load EmailExistenceFilter
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.email FROM UserJpaEntity u")
+    Stream<String> streamAllEmails();
+
+    // keyset pagination on (created_at, id), newest first, served by idx_user_created_at_id
+    @Query(value = "SELECT * FROM users u WHERE (:activeOnly = false OR u.active) " +
+            "ORDER BY u.created_at DESC, u.id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<UserJpaEntity> findFirstKeysetPage(@Param("activeOnly") boolean activeOnly, @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM users u WHERE (:activeOnly = false OR u.active) AND (u.created_at, u.id) < (:createdAt, :id) " +
+            "ORDER BY u.created_at DESC, u.id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<UserJpaEntity> findKeysetPageAfter(@Param("activeOnly") boolean activeOnly, @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") UUID id, @Param("limit") int limit);
+
+    interface ActiveRow {
+        UUID getId();
+        boolean getActive();
+    }
 }
@@ -0,0 +1,15 @@
+package com.ktmt.demoapplication.user.infrastructure.persistence.repository;
+
+import com.ktmt.demoapplication.user.domain.model.UserPatch;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Spring Data fragment of UserJpaRepository for partial updates
+ */
+public interface UserPatchRepository {
+
+    // one UPDATE of the patched columns, applied only if the row still has expectedVersion; returns the updated row count
+    int patch(UUID id, long expectedVersion, UserPatch patch, LocalDateTime updatedAt);
+}
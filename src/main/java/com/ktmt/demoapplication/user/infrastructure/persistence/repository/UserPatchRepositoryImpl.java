@@ -0,0 +1,50 @@
+package com.ktmt.demoapplication.user.infrastructure.persistence.repository;
+
+import com.ktmt.demoapplication.user.domain.model.UserPatch;
+import com.ktmt.demoapplication.user.infrastructure.persistence.entity.UserJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Builds {@code UPDATE users SET <patched columns>, updated_at, version = version + 1
+ * WHERE id = ? AND version = ?} with only the columns the patch sets.
+ * Bulk updates skip entity callbacks, so updated_at is set here rather than by @PreUpdate.
+ */
+public class UserPatchRepositoryImpl implements UserPatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int patch(UUID id, long expectedVersion, UserPatch patch, LocalDateTime updatedAt) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<UserJpaEntity> update = cb.createCriteriaUpdate(UserJpaEntity.class);
+        Root<UserJpaEntity> root = update.from(UserJpaEntity.class);
+
+        if (patch.firstName() != null) {
+            update.set(root.<String>get("firstName"), patch.firstName());
+        }
+        if (patch.lastName() != null) {
+            update.set(root.<String>get("lastName"), patch.lastName());
+        }
+        if (patch.email() != null) {
+            update.set(root.<String>get("email"), patch.email().getValue());
+        }
+        if (patch.age() != null) {
+            update.set(root.<Integer>get("age"), patch.age());
+        }
+        update.set(root.<LocalDateTime>get("updatedAt"), updatedAt);
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        update.where(
+                cb.equal(root.get("id"), id),
+                cb.equal(root.get("version"), expectedVersion));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
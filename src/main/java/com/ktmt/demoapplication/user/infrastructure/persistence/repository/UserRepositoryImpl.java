@@ -1,15 +1,33 @@
 package com.ktmt.demoapplication.user.infrastructure.persistence.repository;
 
+import com.ktmt.demoapplication.common.pagination.CursorPage;
+import com.ktmt.demoapplication.common.cache.BoundedTtlCache;
+import com.ktmt.demoapplication.common.pagination.PageCursor;
+import com.ktmt.demoapplication.common.persistence.ConstraintViolations;
+import com.ktmt.demoapplication.common.transaction.AfterCommit;
 import com.ktmt.demoapplication.user.domain.model.Email;
 import com.ktmt.demoapplication.user.domain.model.User;
 import com.ktmt.demoapplication.user.domain.model.UserId;
+import com.ktmt.demoapplication.user.domain.model.UserPatch;
+import com.ktmt.demoapplication.user.domain.model.UserStatus;
 import com.ktmt.demoapplication.user.domain.repository.UserRepository;
 import com.ktmt.demoapplication.user.infrastructure.persistence.entity.UserJpaEntity;
 import com.ktmt.demoapplication.user.infrastructure.persistence.mapper.UserMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * Implementation of UserRepository (Adapter in Hexagonal Architecture)
@@ -22,27 +40,144 @@ import java.util.Optional;
 @Repository
 public class UserRepositoryImpl implements UserRepository {
 
+    // unique index on users.email (UserJpaEntity)
+    private static final String EMAIL_UNIQUE_INDEX = "idx_user_email";
+
     private final UserJpaRepository jpaRepository;
     private final UserMapper mapper;
+    private final EmailExistenceFilter emailFilter;
+    private final UserCopyLoader copyLoader;
+    // userId -> status, read on every content write (ContentDomainService.ensureCreatorExistsAndIsActive)
+    private final BoundedTtlCache<UUID, UserStatus> statusCache;
 
-    public UserRepositoryImpl(UserJpaRepository jpaRepository, UserMapper mapper) {
+    public UserRepositoryImpl(UserJpaRepository jpaRepository, UserMapper mapper, EmailExistenceFilter emailFilter,
+                              UserCopyLoader copyLoader,
+                              @Value("${user.status-cache.max-size:10000}") int statusCacheMaxSize,
+                              @Value("${user.status-cache.ttl:30s}") Duration statusCacheTtl) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.emailFilter = emailFilter;
+        this.copyLoader = copyLoader;
+        this.statusCache = new BoundedTtlCache<>(statusCacheMaxSize, statusCacheTtl);
+    }
+
+    @Override
+    public User add(User user) {
+        UserJpaEntity entity = mapper.toJpaEntity(user);
+        entity.markNew();
+        emailFilter.add(entity.getEmail());
+        UserJpaEntity savedEntity = saveAndFlush(entity);
+        invalidateStatus(entity.getId());
+        return mapper.toDomainModel(savedEntity);
+    }
+
+    @Override
+    public List<User> addAll(List<User> users) {
+        List<UserJpaEntity> entities = users.stream().map(mapper::toJpaEntity).toList();
+        entities.forEach(entity -> emailFilter.add(entity.getEmail()));
+        Set<UUID> inserted = copyLoader.insertSkippingExistingEmails(entities);
+        AfterCommit.run(() -> inserted.forEach(statusCache::invalidate));
+        return users.stream()
+            .filter(user -> inserted.contains(user.getId().getValue()))
+            .toList();
     }
 
     @Override
     public User save(User user) {
         UserJpaEntity entity = mapper.toJpaEntity(user);
-        UserJpaEntity savedEntity = jpaRepository.save(entity);
+        emailFilter.add(entity.getEmail());
+        UserJpaEntity savedEntity = saveAndFlush(entity);
+        invalidateStatus(entity.getId());
         return mapper.toDomainModel(savedEntity);
     }
 
+    /**
+     * Write the row now rather than at commit, so a duplicate email is reported as a conflict.
+     * The email filter only knows this instance's writes: an email taken through another
+     * instance skips the existence query and is caught here by the unique index.
+     */
+    private UserJpaEntity saveAndFlush(UserJpaEntity entity) {
+        try {
+            return jpaRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.violates(e, EMAIL_UNIQUE_INDEX)) {
+                throw new IllegalStateException("Email already exists: " + entity.getEmail());
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public long patch(UserId id, long expectedVersion, UserPatch patch) {
+        if (patch.email() != null) {
+            emailFilter.add(patch.email().getValue());
+        }
+        int updated;
+        try {
+            updated = jpaRepository.patch(id.getValue(), expectedVersion, patch, LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            // a concurrent request took the email past UserDomainService
+            if (patch.email() != null && ConstraintViolations.violates(e, EMAIL_UNIQUE_INDEX)) {
+                throw new IllegalStateException("Email already exists: " + patch.email().getValue());
+            }
+            throw e;
+        }
+        if (updated == 0) {
+            // Only the failure path pays for telling a missing row from a stale version
+            if (!jpaRepository.existsById(id.getValue())) {
+                throw new IllegalArgumentException("User not found with id: " + id);
+            }
+            throw new OptimisticLockingFailureException(
+                "User " + id + " was modified by another request (expected version " + expectedVersion + "), reload it and retry");
+        }
+        return expectedVersion + 1;
+    }
+
     @Override
     public Optional<User> findById(UserId id) {
         return jpaRepository.findById(id.getValue())
             .map(mapper::toDomainModel);
     }
 
+    @Override
+    public List<User> findAllByIds(Collection<UserId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        UUID[] values = ids.stream().map(UserId::getValue).toArray(UUID[]::new);
+        return jpaRepository.findAllByIdIn(values).stream()
+            .map(mapper::toDomainModel)
+            .toList();
+    }
+
+    @Override
+    public UserStatus findStatusById(UserId id) {
+        return statusCache.get(id.getValue(), key -> jpaRepository.findActiveById(key)
+            .map(active -> active ? UserStatus.ACTIVE : UserStatus.INACTIVE)
+            .orElse(UserStatus.NOT_FOUND));
+    }
+
+    @Override
+    public Map<UserId, UserStatus> findStatusesByIds(Collection<UserId> ids) {
+        Map<UserId, UserStatus> statuses = new HashMap<>();
+        List<UUID> misses = new ArrayList<>();
+        for (UserId id : ids) {
+            statusCache.getIfPresent(id.getValue()).ifPresentOrElse(status -> statuses.put(id, status), () -> misses.add(id.getValue()));
+        }
+        if (!misses.isEmpty()) {
+            // one IN query for every id the cache could not answer
+            Map<UUID, UserStatus> loaded = new HashMap<>();
+            misses.forEach(id -> loaded.put(id, UserStatus.NOT_FOUND));
+            jpaRepository.findActiveByIds(misses)
+                .forEach(row -> loaded.put(row.getId(), row.getActive() ? UserStatus.ACTIVE : UserStatus.INACTIVE));
+            loaded.forEach((id, status) -> {
+                statusCache.put(id, status);
+                statuses.put(UserId.from(id), status);
+            });
+        }
+        return statuses;
+    }
+
     @Override
     public Optional<User> findByEmail(Email email) {
         return jpaRepository.findByEmail(email.getValue())
@@ -63,13 +198,48 @@ public class UserRepositoryImpl implements UserRepository {
             .toList();
     }
 
+    @Override
+    public CursorPage<User> findPage(PageCursor after, int size, boolean activeOnly) {
+        List<UserJpaEntity> rows = after == null
+            ? jpaRepository.findFirstKeysetPage(activeOnly, size + 1)
+            : jpaRepository.findKeysetPageAfter(activeOnly, after.createdAt(), after.id(), size + 1);
+        return CursorPage.of(rows, size, e -> new PageCursor(e.getCreatedAt(), e.getId()))
+            .map(mapper::toDomainModel);
+    }
+
     @Override
     public void deleteById(UserId id) {
         jpaRepository.deleteById(id.getValue());
+        invalidateStatus(id.getValue());
+    }
+
+    /**
+     * Drop the cached status now and again after commit, so a read racing with this transaction
+     * cannot leave the pre-commit status cached
+     */
+    private void invalidateStatus(UUID id) {
+        statusCache.invalidate(id);
+        AfterCommit.run(() -> statusCache.invalidate(id));
     }
 
     @Override
     public boolean existsByEmail(Email email) {
-        return jpaRepository.existsByEmail(email.getValue());
+        // Definite negative: the email was never stored, skip the query
+        if (!emailFilter.mightContain(email.getValue())) {
+            return false;
+        }
+        boolean exists = jpaRepository.existsByEmail(email.getValue());
+        emailFilter.recordMaybeOutcome(exists);
+        return exists;
+    }
+
+    @Override
+    public boolean existsByEmailExcluding(Email email, UserId excludedId) {
+        if (!emailFilter.mightContain(email.getValue())) {
+            return false;
+        }
+        boolean exists = jpaRepository.existsByEmailAndIdNot(email.getValue(), excludedId.getValue());
+        emailFilter.recordMaybeOutcome(exists);
+        return exists;
     }
 }
@@ -1,12 +1,15 @@
 package com.ktmt.demoapplication.user.presentation.controller;
 
 import com.ktmt.demoapplication.user.presentation.dto.ApiResponseData;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -38,6 +41,17 @@ public class GlobalExceptionHandler {
             .body(ApiResponseData.error("Validation failed: " + errors));
     }
 
+    /**
+     * Handle request parameters that cannot be converted (e.g. unknown sort order, malformed date)
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ApiResponseData<Void>> handleTypeMismatchException(
+            MethodArgumentTypeMismatchException ex) {
+        return ResponseEntity
+            .status(HttpStatus.BAD_REQUEST)
+            .body(ApiResponseData.error("Invalid value for parameter '" + ex.getName() + "': " + ex.getValue()));
+    }
+
     /**
      * Handle illegal argument exceptions
      */
@@ -60,6 +74,31 @@ public class GlobalExceptionHandler {
             .body(ApiResponseData.error(ex.getMessage()));
     }
 
+    /**
+     * Handle rule violations thrown by a repository: the @Repository exception translation wraps
+     * IllegalArgumentException and IllegalStateException in InvalidDataAccessApiUsageException
+     */
+    @ExceptionHandler(InvalidDataAccessApiUsageException.class)
+    public ResponseEntity<ApiResponseData<Void>> handleInvalidDataAccessApiUsageException(
+            InvalidDataAccessApiUsageException ex) {
+        return switch (ex.getCause()) {
+            case IllegalArgumentException cause -> handleIllegalArgumentException(cause);
+            case IllegalStateException cause -> handleIllegalStateException(cause);
+            case null, default -> handleGenericException(ex);
+        };
+    }
+
+    /**
+     * Handle concurrent modifications detected by the version column
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponseData<Void>> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex) {
+        return ResponseEntity
+            .status(HttpStatus.CONFLICT)
+            .body(ApiResponseData.error(ex.getMessage()));
+    }
+
     /**
      * Handle generic exceptions
      */
@@ -1,14 +1,22 @@
 package com.ktmt.demoapplication.user.presentation.controller;
 
+import com.ktmt.demoapplication.common.batch.BatchResult;
+import com.ktmt.demoapplication.common.importing.NdjsonImportReport;
+import com.ktmt.demoapplication.common.pagination.CursorPage;
 import com.ktmt.demoapplication.user.application.dto.UserResponse;
 import com.ktmt.demoapplication.user.application.usecase.CreateUserUseCase;
 import com.ktmt.demoapplication.user.application.usecase.DeleteUserUseCase;
 import com.ktmt.demoapplication.user.application.usecase.GetUserUseCase;
+import com.ktmt.demoapplication.user.application.usecase.ImportUserUseCase;
 import com.ktmt.demoapplication.user.application.usecase.UpdateUserUseCase;
 import com.ktmt.demoapplication.user.presentation.dto.ApiResponseData;
+import com.ktmt.demoapplication.user.presentation.dto.BatchGetApiRequest;
 import com.ktmt.demoapplication.user.presentation.dto.CreateUserApiRequest;
+import com.ktmt.demoapplication.user.presentation.dto.PatchUserApiRequest;
 import com.ktmt.demoapplication.user.presentation.dto.UpdateUserApiRequest;
 import com.ktmt.demoapplication.user.presentation.dto.UserApiResponse;
+import com.ktmt.demoapplication.user.presentation.dto.UserImportApiResult;
+import com.ktmt.demoapplication.user.presentation.importing.NdjsonUserImportReader;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,9 +26,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -28,7 +38,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -49,16 +62,22 @@ public class UserController {
     private final GetUserUseCase getUserUseCase;
     private final UpdateUserUseCase updateUserUseCase;
     private final DeleteUserUseCase deleteUserUseCase;
+    private final ImportUserUseCase importUserUseCase;
+    private final JsonMapper jsonMapper;
 
     public UserController(
             CreateUserUseCase createUserUseCase,
             GetUserUseCase getUserUseCase,
             UpdateUserUseCase updateUserUseCase,
-            DeleteUserUseCase deleteUserUseCase) {
+            DeleteUserUseCase deleteUserUseCase,
+            ImportUserUseCase importUserUseCase,
+            JsonMapper jsonMapper) {
         this.createUserUseCase = createUserUseCase;
         this.getUserUseCase = getUserUseCase;
         this.updateUserUseCase = updateUserUseCase;
         this.deleteUserUseCase = deleteUserUseCase;
+        this.importUserUseCase = importUserUseCase;
+        this.jsonMapper = jsonMapper;
     }
 
     @Operation(summary = "Create a new user", description = "Creates a new user with the provided information")
@@ -78,6 +97,17 @@ public class UserController {
             .body(ApiResponseData.success("User created successfully", apiResponse));
     }
 
+    @Operation(summary = "Import users from NDJSON", description = "Creates users in bulk from one JSON object per line, with the fields of the create request. The body is streamed and written in chunks with COPY; a record whose email already exists is rejected without failing the others. The response streams one result line per record, in input order")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import report streamed, one line per record")
+    })
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importUsers(InputStream body) {
+        NdjsonUserImportReader rows = new NdjsonUserImportReader(body, jsonMapper);
+        return NdjsonImportReport.stream(jsonMapper, report ->
+            importUserUseCase.execute(rows, result -> report.accept(UserImportApiResult.from(result))));
+    }
+
     @Operation(summary = "Get user by ID", description = "Retrieves a user by their unique identifier")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "User found",
@@ -93,23 +123,43 @@ public class UserController {
         return ResponseEntity.ok(ApiResponseData.success(apiResponse));
     }
 
-    @Operation(summary = "Get all users", description = "Retrieves a list of all users, optionally filtered by active status")
+    @Operation(summary = "Get users by IDs", description = "Retrieves up to " + BatchResult.MAX_IDS + " users in one request, in the order of the given ids. Ids that match no user are listed in missingIds")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "List of users retrieved successfully")
+        @ApiResponse(responseCode = "200", description = "Users found, unknown ids listed in missingIds"),
+        @ApiResponse(responseCode = "400", description = "No ids, too many ids or invalid user ID format")
+    })
+    @PostMapping("/batch-get")
+    public ResponseEntity<ApiResponseData<List<UserApiResponse>>> getUsersByIds(
+            @Valid @RequestBody BatchGetApiRequest request) {
+        BatchResult<UserResponse> result = getUserUseCase.getByIds(request.ids());
+
+        List<UserApiResponse> apiResponses = result.items().stream()
+            .map(UserApiResponse::from)
+            .toList();
+
+        return ResponseEntity.ok(ApiResponseData.batch(apiResponses, result.missingIds()));
+    }
+
+    @Operation(summary = "Get all users", description = "Retrieves users page by page, newest first, optionally filtered by active status. Pass the returned nextCursor to get the following page; it is absent on the last page")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Page of users retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or size")
     })
     @GetMapping
     public ResponseEntity<ApiResponseData<List<UserApiResponse>>> getAllUsers(
             @Parameter(description = "Filter by active status (true/false)")
-            @RequestParam(value = "active", required = false) Boolean active) {
-        List<UserResponse> responses = active != null && active
-            ? getUserUseCase.getAllActiveUsers()
-            : getUserUseCase.getAllUsers();
+            @RequestParam(value = "active", required = false) Boolean active,
+            @Parameter(description = "nextCursor of the previous page, omit for the first page")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Page size (1-100)")
+            @RequestParam(value = "size", required = false, defaultValue = "20") int size) {
+        CursorPage<UserResponse> page = getUserUseCase.getUserPage(cursor, size, active != null && active);
 
-        List<UserApiResponse> apiResponses = responses.stream()
+        List<UserApiResponse> apiResponses = page.items().stream()
             .map(UserApiResponse::from)
             .toList();
 
-        return ResponseEntity.ok(ApiResponseData.success(apiResponses));
+        return ResponseEntity.ok(ApiResponseData.page(apiResponses, page.nextCursorToken()));
     }
 
     @Operation(summary = "Update user", description = "Updates an existing user's information")
@@ -129,6 +179,20 @@ public class UserController {
         return ResponseEntity.ok(ApiResponseData.success("User updated successfully", apiResponse));
     }
 
+    @Operation(summary = "Partially update user", description = "Updates only the given fields in one statement, if the user is still at the given version; returns the new version")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "User updated successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid input, nothing to update or user not found"),
+        @ApiResponse(responseCode = "409", description = "User changed since the given version, or email already exists")
+    })
+    @PatchMapping("/{id}")
+    public ResponseEntity<ApiResponseData<Long>> patchUser(
+            @Parameter(description = "User ID (UUID format)", required = true) @PathVariable String id,
+            @Valid @RequestBody PatchUserApiRequest request) {
+        long version = updateUserUseCase.patch(id, request.toApplicationDto());
+        return ResponseEntity.ok(ApiResponseData.success("User updated successfully", version));
+    }
+
     @Operation(summary = "Soft delete user", description = "Deactivates a user without permanently removing their data")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "User deactivated successfully"),
@@ -1,5 +1,9 @@
 package com.ktmt.demoapplication.user.presentation.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
 /**
  * Generic API Response wrapper
  *
@@ -10,17 +14,29 @@ package com.ktmt.demoapplication.user.presentation.dto;
 public record ApiResponseData<T>(
     boolean success,
     String message,
-    T data
+    T data,
+    // Token for the next page of a paginated listing, omitted on the last page and on non-list responses
+    @JsonInclude(JsonInclude.Include.NON_NULL) String nextCursor,
+    // Requested ids that matched nothing, only on multi-get responses
+    @JsonInclude(JsonInclude.Include.NON_NULL) List<String> missingIds
 ) {
     public static <T> ApiResponseData<T> success(T data) {
-        return new ApiResponseData<>(true, "Success", data);
+        return new ApiResponseData<>(true, "Success", data, null, null);
     }
 
     public static <T> ApiResponseData<T> success(String message, T data) {
-        return new ApiResponseData<>(true, message, data);
+        return new ApiResponseData<>(true, message, data, null, null);
+    }
+
+    public static <T> ApiResponseData<T> page(T data, String nextCursor) {
+        return new ApiResponseData<>(true, "Success", data, nextCursor, null);
+    }
+
+    public static <T> ApiResponseData<T> batch(T data, List<String> missingIds) {
+        return new ApiResponseData<>(true, "Success", data, null, missingIds);
     }
 
     public static <T> ApiResponseData<T> error(String message) {
-        return new ApiResponseData<>(false, message, null);
+        return new ApiResponseData<>(false, message, null, null, null);
     }
 }
@@ -0,0 +1,25 @@
+package com.ktmt.demoapplication.user.presentation.dto;
+
+import com.ktmt.demoapplication.common.batch.BatchResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * API Request DTO for the multi-get endpoints (users, content, categories)
+ *
+ * SOLID Principles Applied:
+ * - Single Responsibility Principle (SRP): Only responsible for API request validation
+ */
+@Schema(description = "Ids to fetch in one request")
+public record BatchGetApiRequest(
+    @Schema(description = "Ids (UUID format); results keep this order", example = "[\"550e8400-e29b-41d4-a716-446655440000\"]",
+        requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "At least one id is required")
+    @Size(max = BatchResult.MAX_IDS, message = "At most " + BatchResult.MAX_IDS + " ids can be requested at once")
+    List<@NotBlank(message = "Ids must not be null or blank") String> ids
+) {
+}
@@ -0,0 +1,33 @@
+package com.ktmt.demoapplication.user.presentation.dto;
+
+import com.ktmt.demoapplication.user.application.dto.PatchUserRequest;
+import jakarta.validation.constraints.*;
+
+/**
+ * API Request DTO for partially updating a user; omitted fields are left unchanged
+ *
+ * SOLID Principles Applied:
+ * - Single Responsibility Principle (SRP): Only responsible for API request validation
+ */
+public record PatchUserApiRequest(
+    @Size(min = 1, max = 50, message = "First name must be between 1 and 50 characters")
+    String firstName,
+
+    @Size(min = 1, max = 50, message = "Last name must be between 1 and 50 characters")
+    String lastName,
+
+    @Email(message = "Email must be valid")
+    String email,
+
+    @Min(value = 0, message = "Age must be at least 0")
+    @Max(value = 150, message = "Age must not exceed 150")
+    Integer age,
+
+    // version of the user as last read; the update is rejected with 409 if it changed since
+    @NotNull(message = "Version is required")
+    Long version
+) {
+    public PatchUserRequest toApplicationDto() {
+        return new PatchUserRequest(firstName, lastName, email, age, version);
+    }
+}
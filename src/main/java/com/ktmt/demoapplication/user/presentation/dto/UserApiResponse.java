@@ -39,7 +39,10 @@ public record UserApiResponse(
     LocalDateTime createdAt,
 
     @Schema(description = "Timestamp when the user was last updated", example = "2024-12-01T15:30:00")
-    LocalDateTime updatedAt
+    LocalDateTime updatedAt,
+
+    @Schema(description = "Version to send back with a partial update", example = "3")
+    long version
 ) {
     public static UserApiResponse from(UserResponse response) {
         return new UserApiResponse(
@@ -51,7 +54,8 @@ public record UserApiResponse(
             response.age(),
             response.active(),
             response.createdAt(),
-            response.updatedAt()
+            response.updatedAt(),
+            response.version()
         );
     }
 }
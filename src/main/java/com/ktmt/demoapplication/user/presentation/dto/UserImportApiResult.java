@@ -0,0 +1,38 @@
+package com.ktmt.demoapplication.user.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ktmt.demoapplication.user.application.dto.UserImportResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Locale;
+
+/**
+ * API Response DTO for one line of a bulk user import report
+ *
+ * SOLID Principles Applied:
+ * - Single Responsibility Principle (SRP): Only responsible for API response structure
+ */
+@Schema(description = "Outcome of one imported user")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserImportApiResult(
+    @Schema(description = "1-based record number in the file", example = "42")
+    long row,
+
+    @Schema(description = "Outcome", allowableValues = {"created", "rejected"})
+    String status,
+
+    @Schema(description = "Id of the created user", example = "550e8400-e29b-41d4-a716-446655440000")
+    String userId,
+
+    @Schema(description = "Why the record was rejected", example = "Email already exists: john.doe@example.com")
+    String error
+) {
+    public static UserImportApiResult from(UserImportResult result) {
+        return new UserImportApiResult(
+            result.row(),
+            result.status().name().toLowerCase(Locale.ROOT),
+            result.userId(),
+            result.error()
+        );
+    }
+}
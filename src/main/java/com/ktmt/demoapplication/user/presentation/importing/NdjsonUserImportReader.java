@@ -0,0 +1,31 @@
+package com.ktmt.demoapplication.user.presentation.importing;
+
+import com.ktmt.demoapplication.common.importing.NdjsonLineReader;
+import com.ktmt.demoapplication.user.application.dto.CreateUserRequest;
+import com.ktmt.demoapplication.user.application.dto.UserImportRow;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.InputStream;
+
+/**
+ * Reads an NDJSON import body whose lines have the fields of CreateUserApiRequest
+ */
+public class NdjsonUserImportReader extends NdjsonLineReader<UserImportRow> {
+
+    private final JsonMapper jsonMapper;
+
+    public NdjsonUserImportReader(InputStream body, JsonMapper jsonMapper) {
+        super(body);
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    protected UserImportRow parse(long row, String line) {
+        try {
+            return UserImportRow.of(row, jsonMapper.readValue(line, CreateUserRequest.class));
+        } catch (JacksonException e) {
+            return UserImportRow.malformed(row, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+-- PostgreSQL objects that Hibernate's ddl-auto cannot express.
+-- Runs after Hibernate has updated the schema (spring.jpa.defer-datasource-initialization)
+-- and on every startup, so every statement here must be idempotent.
+
+-- Diacritic-insensitive search: trigram indexes on the folded columns serve LIKE '%x%'
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_contents_title_folded_trgm ON contents USING GIN (title_folded gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_contents_description_folded_trgm ON contents USING GIN (description_folded gin_trgm_ops);
+
+-- Full-text search (content.search.engine=fulltext), built from the folded columns
+ALTER TABLE contents ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION contents_search_vector_refresh() RETURNS trigger AS $$
+BEGIN
+    NEW.search_vector :=
+        setweight(to_tsvector('simple', coalesce(NEW.title_folded, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(NEW.description_folded, '')), 'B');
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE TRIGGER contents_search_vector_trigger
+    BEFORE INSERT OR UPDATE OF title, description, title_folded, description_folded ON contents
+    FOR EACH ROW EXECUTE FUNCTION contents_search_vector_refresh();
+
+-- Rows written before the trigger existed are filled in batches by ContentSearchVectorBackfill;
+-- this partial index keeps its probe cheap once none is left
+CREATE INDEX IF NOT EXISTS idx_contents_search_vector_missing ON contents (id) WHERE search_vector IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_contents_search_vector ON contents USING GIN (search_vector);
+
+-- Case-insensitive title uniqueness (ContentDomainService): a single probe on a unique index,
+-- which also rejects the second of two concurrent creates with the same title
+ALTER TABLE contents ADD COLUMN IF NOT EXISTS title_normalized text GENERATED ALWAYS AS (lower(btrim(title))) STORED;
+
+DO $$
+BEGIN
+    CREATE UNIQUE INDEX IF NOT EXISTS uk_contents_title_normalized ON contents (title_normalized);
+EXCEPTION WHEN unique_violation THEN
+    RAISE WARNING 'uk_contents_title_normalized not created: some titles differ only by case or surrounding spaces, rename them and restart';
+END
+$$;
+
+-- contents.topic as a uuid foreign key to categories (ContentJpaEntity.topic). Tables created before
+-- held the category id as varchar: convert them once, refusing to start while a topic is not a uuid.
+-- Then add the constraint without scanning (NOT VALID) and validate it separately, so orphan rows
+-- only cost a warning instead of the startup.
+DO $$
+BEGIN
+    IF (SELECT data_type FROM information_schema.columns
+        WHERE table_schema = current_schema() AND table_name = 'contents' AND column_name = 'topic') <> 'uuid' THEN
+        IF EXISTS (SELECT 1 FROM contents
+                   WHERE btrim(topic) !~* '^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$') THEN
+            -- ContentJpaEntity maps topic as uuid: starting on a varchar column would fail every content query
+            RAISE EXCEPTION 'contents.topic not converted to uuid: some topics are not category ids, fix them and restart'
+                USING HINT = 'SELECT id, topic FROM contents WHERE btrim(topic) !~* ''^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$''';
+        END IF;
+        -- catalog_stats reads the column; it is recreated further down
+        DROP MATERIALIZED VIEW IF EXISTS catalog_stats;
+        ALTER TABLE contents ALTER COLUMN topic TYPE uuid USING btrim(topic)::uuid;
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk_contents_topic_category') THEN
+        ALTER TABLE contents ADD CONSTRAINT fk_contents_topic_category
+            FOREIGN KEY (topic) REFERENCES categories (id) NOT VALID;
+    END IF;
+
+    BEGIN
+        ALTER TABLE contents VALIDATE CONSTRAINT fk_contents_topic_category;
+    EXCEPTION WHEN foreign_key_violation THEN
+        RAISE WARNING 'fk_contents_topic_category not validated: some content refers to deleted categories, new writes are still checked';
+    END;
+END
+$$;
+
+-- Replaced by idx_contents_topic_created_at_id, which also serves the keyset listing of a category
+DROP INDEX IF EXISTS idx_contents_topic_created_at;
+
+-- Dashboard counters (GET /api/v1/stats): one row per (dimension, bucket), computed at refresh time and
+-- refreshed in the background by CatalogStatsRefresher without blocking readers (CONCURRENTLY needs
+-- the unique index). Reading it costs the same whatever the size of contents and users.
+CREATE MATERIALIZED VIEW IF NOT EXISTS catalog_stats AS
+    SELECT 'category'::text AS dimension, c.topic::text AS bucket, count(*) AS total
+    FROM contents c GROUP BY c.topic
+    UNION ALL
+    SELECT 'type', c.type, count(*) FROM contents c GROUP BY c.type
+    UNION ALL
+    SELECT 'creator', c.created_by, count(*) FROM contents c GROUP BY c.created_by
+    UNION ALL
+    SELECT 'user_status', CASE WHEN u.active THEN 'active' ELSE 'inactive' END, count(*) FROM users u GROUP BY u.active;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_catalog_stats_dimension_bucket ON catalog_stats (dimension, bucket);
+CREATE INDEX IF NOT EXISTS idx_catalog_stats_dimension_total ON catalog_stats (dimension, total DESC);
+
+-- When catalog_stats was last computed, kept apart from its rows so it is known even with empty tables.
+-- A single row, written in the same transaction as each refresh; the first one dates the view's creation.
+CREATE TABLE IF NOT EXISTS catalog_stats_refresh (
+    id boolean PRIMARY KEY DEFAULT true CHECK (id),
+    refreshed_at timestamp NOT NULL
+);
+
+INSERT INTO catalog_stats_refresh (refreshed_at) VALUES (now()) ON CONFLICT (id) DO NOTHING;
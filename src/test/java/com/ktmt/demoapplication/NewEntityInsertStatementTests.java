@@ -0,0 +1,115 @@
+package com.ktmt.demoapplication;
+
+import com.ktmt.demoapplication.content.domain.model.Category;
+import com.ktmt.demoapplication.content.domain.model.Content;
+import com.ktmt.demoapplication.content.domain.repository.ICategoryRepository;
+import com.ktmt.demoapplication.content.domain.repository.IContentRepository;
+import com.ktmt.demoapplication.content.infrastructure.persistence.entity.CategoryJpaEntity;
+import com.ktmt.demoapplication.content.infrastructure.persistence.repository.CategoryCatalogStore;
+import com.ktmt.demoapplication.content.infrastructure.persistence.repository.CategoryRepositoryImpl;
+import com.ktmt.demoapplication.content.infrastructure.persistence.repository.ContentRepositoryImpl;
+import com.ktmt.demoapplication.content.infrastructure.search.DatabaseContentSearchStrategy;
+import com.ktmt.demoapplication.user.domain.model.User;
+import com.ktmt.demoapplication.user.domain.repository.UserRepository;
+import com.ktmt.demoapplication.user.infrastructure.config.JpaConfig;
+import com.ktmt.demoapplication.user.infrastructure.persistence.mapper.UserMapper;
+import com.ktmt.demoapplication.user.infrastructure.persistence.repository.EmailExistenceFilter;
+import com.ktmt.demoapplication.user.infrastructure.persistence.repository.UserCopyLoader;
+import com.ktmt.demoapplication.user.infrastructure.persistence.repository.UserRepositoryImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Creating an aggregate must issue a single INSERT, without the SELECT Spring Data runs
+ * before merging an entity whose id is already set.
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({
+        ContentRepositoryImpl.class, DatabaseContentSearchStrategy.class, CategoryRepositoryImpl.class, CategoryCatalogStore.class,
+        UserRepositoryImpl.class, UserCopyLoader.class, UserMapper.class, EmailExistenceFilter.class, JpaConfig.class,
+        SimpleMeterRegistry.class
+})
+class NewEntityInsertStatementTests {
+
+    @Autowired
+    private IContentRepository contentRepository;
+
+    @Autowired
+    private ICategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void addItemIssuesOneStatement() {
+        Content content = Content.create("Streams in depth", "Collectors and spliterators", "video",
+                UUID.randomUUID().toString(), UUID.randomUUID().toString());
+
+        contentRepository.addItem(content);
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+    }
+
+    @Test
+    void addCategoryIssuesOneStatement() {
+        categoryRepository.addCategory(Category.create("Java", "Core language"));
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+    }
+
+    @Test
+    void addUserIssuesOneStatement() {
+        userRepository.add(User.create("Ada", "Lovelace", "ada@example.com", 36));
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+    }
+
+    @Test
+    void updatingALoadedRowStillUpdatesIt() {
+        Category created = categoryRepository.addCategory(Category.create("Spring", "Framework"));
+        entityManager.flush();
+        entityManager.clear();
+
+        created.updateInformation("Spring Boot", "Framework");
+        categoryRepository.updateCategory(created);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(entityManager.find(CategoryJpaEntity.class, created.getId()).getName()).isEqualTo("Spring Boot");
+    }
+}
@@ -0,0 +1,86 @@
+package com.ktmt.demoapplication.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Layout and ordering of generated ids, driven by a controlled clock.
+ * Order is compared on the string form, which sorts like PostgreSQL's uuid type.
+ */
+class UuidV7GeneratorTests {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(NOW);
+    private final UuidV7Generator generator = new UuidV7Generator(clock::get);
+
+    @Test
+    void setsVersionAndVariantBits() {
+        UUID id = generator.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(UuidV7Generator.timestampOf(id)).isEqualTo(Instant.ofEpochMilli(NOW));
+    }
+
+    @Test
+    void idsOfTheSameMillisecondAreStrictlyIncreasing() {
+        UUID previous = generator.next();
+        for (int i = 0; i < 1000; i++) {
+            UUID id = generator.next();
+            assertThat(id.toString()).isGreaterThan(previous.toString());
+            assertThat(UuidV7Generator.timestampOf(id)).isEqualTo(Instant.ofEpochMilli(NOW));
+            previous = id;
+        }
+    }
+
+    @Test
+    void exhaustedSequenceMovesToTheNextMillisecond() {
+        UUID last = null;
+        // the 12-bit sequence holds 4096 ids per millisecond
+        for (int i = 0; i < 4096; i++) {
+            last = generator.next();
+        }
+        assertThat(UuidV7Generator.timestampOf(last)).isEqualTo(Instant.ofEpochMilli(NOW));
+
+        UUID overflow = generator.next();
+
+        assertThat(UuidV7Generator.timestampOf(overflow)).isEqualTo(Instant.ofEpochMilli(NOW + 1));
+        assertThat(overflow.toString()).isGreaterThan(last.toString());
+    }
+
+    @Test
+    void clockSteppingBackwardsKeepsIdsIncreasing() {
+        UUID before = generator.next();
+        clock.set(NOW - 10_000);
+
+        UUID after = generator.next();
+
+        assertThat(after.toString()).isGreaterThan(before.toString());
+        assertThat(UuidV7Generator.timestampOf(after)).isEqualTo(Instant.ofEpochMilli(NOW));
+    }
+
+    @Test
+    void clockMovingForwardRestartsTheSequence() {
+        generator.next();
+        generator.next();
+        clock.set(NOW + 1);
+
+        UUID id = generator.next();
+
+        assertThat(id.getMostSignificantBits() & 0xFFF).isZero();
+        assertThat(UuidV7Generator.timestampOf(id)).isEqualTo(Instant.ofEpochMilli(NOW + 1));
+    }
+
+    @Test
+    void timestampOfIsNullForOtherVersions() {
+        assertThat(UuidV7Generator.timestampOf(UUID.randomUUID())).isNull();
+        assertThat(UuidV7Generator.timestampOf(UUID.nameUUIDFromBytes(new byte[]{1}))).isNull();
+        assertThat(UuidV7Generator.timestampOf(null)).isNull();
+    }
+}
@@ -0,0 +1,137 @@
+package com.ktmt.demoapplication.content.application.usecase;
+
+import com.ktmt.demoapplication.content.application.search.ContentTitleSuggestionIndex;
+import com.ktmt.demoapplication.content.domain.model.Category;
+import com.ktmt.demoapplication.content.domain.model.CategoryDeletionMode;
+import com.ktmt.demoapplication.content.domain.model.Content;
+import com.ktmt.demoapplication.content.domain.model.ContentId;
+import com.ktmt.demoapplication.content.domain.repository.ICategoryRepository;
+import com.ktmt.demoapplication.content.domain.repository.IContentRepository;
+import com.ktmt.demoapplication.content.infrastructure.persistence.repository.CategoryCatalogStore;
+import com.ktmt.demoapplication.content.infrastructure.persistence.repository.CategoryRepositoryImpl;
+import com.ktmt.demoapplication.content.infrastructure.persistence.repository.ContentRepositoryImpl;
+import com.ktmt.demoapplication.content.infrastructure.search.DatabaseContentSearchStrategy;
+import com.ktmt.demoapplication.user.infrastructure.config.JpaConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Chunked REASSIGN and CASCADE deletion against PostgreSQL: the chunks are UPDATE/DELETE ... RETURNING
+ * statements and rely on fk_contents_topic_category from schema.sql, neither of which H2 provides.
+ *
+ * Not transactional, so every chunk commits on its own as in production; each test uses its own categories.
+ */
+@DataJpaTest(properties = "content.category-delete.chunk-size=2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        DeleteCategoryUseCase.class, ContentTitleSuggestionIndex.class,
+        ContentRepositoryImpl.class, DatabaseContentSearchStrategy.class, CategoryRepositoryImpl.class, CategoryCatalogStore.class,
+        JpaConfig.class
+})
+class DeleteCategoryUseCasePostgresTests {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private DeleteCategoryUseCase deleteCategoryUseCase;
+
+    @Autowired
+    private ICategoryRepository categoryRepository;
+
+    @Autowired
+    private IContentRepository contentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void reassignMovesEveryChunkThenDeletesTheCategory() {
+        Category from = newCategory();
+        Category to = newCategory();
+        List<ContentId> ids = addContent(from, 5);
+
+        deleteCategoryUseCase.execute(from.getId(), CategoryDeletionMode.REASSIGN, to.getId());
+
+        assertThat(categoryRepository.getCategory(from.getId())).isEmpty();
+        assertThat(contentRepository.existsByCategory(from.getId())).isFalse();
+        assertThat(contentRepository.getItems(ids))
+                .hasSize(5)
+                .allSatisfy(content -> assertThat(content.getTopic()).isEqualTo(to.getId().toString()))
+                .allSatisfy(content -> assertThat(content.getVersion()).isEqualTo(1));
+    }
+
+    @Test
+    void cascadeDeletesEveryChunkThenTheCategory() {
+        Category category = newCategory();
+        // a multiple of the chunk size: the last full chunk is followed by an empty one
+        List<ContentId> ids = addContent(category, 4);
+
+        deleteCategoryUseCase.execute(category.getId(), CategoryDeletionMode.CASCADE, null);
+
+        assertThat(categoryRepository.getCategory(category.getId())).isEmpty();
+        assertThat(contentRepository.getItems(ids)).isEmpty();
+    }
+
+    @Test
+    void rejectRefusesACategoryInUse() {
+        Category category = newCategory();
+        addContent(category, 1);
+
+        assertThatThrownBy(() -> deleteCategoryUseCase.execute(category.getId()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("still the topic of some content");
+        assertThat(categoryRepository.getCategory(category.getId())).isPresent();
+    }
+
+    @Test
+    void reassignToATargetDeletedMeanwhileIsAConflict() {
+        Category from = newCategory();
+        Category to = newCategory();
+        List<ContentId> ids = addContent(from, 3);
+        // deleted behind the catalog's back, as another instance would
+        jdbcTemplate.update("DELETE FROM categories WHERE id = ?", to.getId());
+
+        assertThatThrownBy(() -> deleteCategoryUseCase.execute(from.getId(), CategoryDeletionMode.REASSIGN, to.getId()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("was deleted during the reassignment")
+                .hasMessageContaining("0 content items had already been moved");
+        assertThat(categoryRepository.getCategory(from.getId())).isPresent();
+        assertThat(contentRepository.getItems(ids))
+                .hasSize(3)
+                .allSatisfy(content -> assertThat(content.getTopic()).isEqualTo(from.getId().toString()));
+    }
+
+    private Category newCategory() {
+        return categoryRepository.addCategory(Category.create("Category " + UUID.randomUUID(), "Test category"));
+    }
+
+    private List<ContentId> addContent(Category category, int count) {
+        List<Content> contents = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            contents.add(Content.create("Content " + UUID.randomUUID(), "Description", "video",
+                    category.getId().toString(), UUID.randomUUID().toString()));
+        }
+        return contentRepository.addItems(contents).stream().map(Content::getId).toList();
+    }
+}
@@ -0,0 +1,112 @@
+package com.ktmt.demoapplication.content.presentation.importing;
+
+import com.ktmt.demoapplication.content.application.dto.ContentImportRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvContentImportReaderTests {
+
+    private static final String HEADER = "title,description,type,topic,createdBy\n";
+
+    @Test
+    void readsColumnsByHeaderNameInAnyOrder() {
+        List<ContentImportRow> rows = read("CreatedBy,TYPE,title,topic\nu1,text,Hello,c1\n");
+
+        assertThat(rows).hasSize(1);
+        ContentImportRow row = rows.getFirst();
+        assertThat(row.row()).isEqualTo(1);
+        assertThat(row.content().title()).isEqualTo("Hello");
+        assertThat(row.content().description()).isNull();
+        assertThat(row.content().type()).isEqualTo("text");
+        assertThat(row.content().topic()).isEqualTo("c1");
+        assertThat(row.content().createdBy()).isEqualTo("u1");
+    }
+
+    @Test
+    void unescapesDoubledQuotesAndKeepsCommasInQuotedFields() {
+        List<ContentImportRow> rows = read(HEADER + "\"Say \"\"hi\"\", then go\",\"a, b\",text,c1,u1\n");
+
+        assertThat(rows.getFirst().content().title()).isEqualTo("Say \"hi\", then go");
+        assertThat(rows.getFirst().content().description()).isEqualTo("a, b");
+    }
+
+    @Test
+    void keepsLineBreaksInsideQuotedFields() {
+        List<ContentImportRow> rows = read(HEADER + "Title,\"line one\nline two\",text,c1,u1\nNext,,text,c1,u1\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).content().description()).isEqualTo("line one\nline two");
+        assertThat(rows.get(1).row()).isEqualTo(2);
+        assertThat(rows.get(1).content().title()).isEqualTo("Next");
+    }
+
+    @Test
+    void acceptsCrlfLineEndingsAndAMissingFinalLineBreak() {
+        List<ContentImportRow> rows = read("title,description,type,topic,createdBy\r\nA,d,text,c1,u1\r\nB,d,text,c1,u2");
+
+        assertThat(rows).extracting(row -> row.content().title()).containsExactly("A", "B");
+        assertThat(rows).extracting(row -> row.content().createdBy()).containsExactly("u1", "u2");
+    }
+
+    @Test
+    void skipsBlankLines() {
+        List<ContentImportRow> rows = read(HEADER + "\nA,d,text,c1,u1\n\n");
+
+        assertThat(rows).hasSize(1);
+    }
+
+    @Test
+    void reportsAWrongFieldCountAsMalformedAndGoesOn() {
+        List<ContentImportRow> rows = read(HEADER + "A,d,text\nB,d,text,c1,u1\n");
+
+        assertThat(rows.get(0).content()).isNull();
+        assertThat(rows.get(0).error()).contains("Expected 5 fields but found 3");
+        assertThat(rows.get(1).content().title()).isEqualTo("B");
+    }
+
+    @Test
+    void reportsAnUnterminatedQuoteAsTheLastMalformedRecord() {
+        List<ContentImportRow> rows = read(HEADER + "A,d,text,c1,u1\n\"B,d,text,c1,u1\nC,d,text,c1,u1\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).content().title()).isEqualTo("A");
+        assertThat(rows.get(1).row()).isEqualTo(2);
+        assertThat(rows.get(1).content()).isNull();
+        assertThat(rows.get(1).error()).contains("Unterminated quoted field");
+    }
+
+    @Test
+    void reportsALoneOpeningQuoteAsMalformed() {
+        List<ContentImportRow> rows = read(HEADER + "\"");
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.getFirst().error()).contains("Unterminated quoted field");
+    }
+
+    @Test
+    void refusesABodyWithoutTheRequiredColumns() {
+        assertThatThrownBy(() -> read("title,type\nA,text\n"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("topic")
+                .hasMessageContaining("createdby");
+        assertThatThrownBy(() -> read(""))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> read("\"title,type"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("unterminated");
+    }
+
+    private static List<ContentImportRow> read(String csv) {
+        CsvContentImportReader reader = new CsvContentImportReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+        List<ContentImportRow> rows = new ArrayList<>();
+        reader.forEachRemaining(rows::add);
+        return rows;
+    }
+}